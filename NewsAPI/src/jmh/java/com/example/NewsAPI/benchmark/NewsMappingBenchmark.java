@@ -0,0 +1,50 @@
+package com.example.NewsAPI.benchmark;
+
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewsMappingBenchmark {
+    private static final String BODY = "Body of the benchmark news. ".repeat(20);
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    List<News> newsList;
+
+    @Setup
+    public void setup(){
+        newsList = buildNews(size);
+    }
+
+    @Benchmark
+    public List<NewsGetResponseDTO> mapToGetResponseDTO(){
+        return newsList.stream().map(NewsGetResponseDTO::from).toList();
+    }
+
+    static List<News> buildNews(int size){
+        User writer = UserTestFactory.buildOne("BenchmarkWriter");
+        Instant firstPublication = Instant.parse("2025-10-14T00:00:00Z");
+
+        List<News> newsList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            newsList.add(new News(new UUID(0, i), "Benchmark news " + i, BODY, Date.from(firstPublication.plusSeconds(i)), writer));
+        }
+        return newsList;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.NewsAPI.benchmark;
+
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsGetResponseListDTO;
+import com.example.NewsAPI.domain.news.PublishedAtSerializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewsSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    @Param({"legacy", "lean", "lean-epoch"})
+    String path;
+
+    @Param({"identity", "gzip"})
+    String encoding;
+
+    ObjectWriter writer;
+    Object response;
+
+    @Setup
+    public void setup(){
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+        if ("lean-epoch".equals(path)) {
+            writer = writer.withAttribute(PublishedAtSerializer.EPOCH_MILLIS_ATTRIBUTE, true);
+        }
+
+        List<NewsGetResponseDTO> newsList = NewsMappingBenchmark.buildNews(size).stream().map(NewsGetResponseDTO::from).toList();
+        response = "legacy".equals(path)
+                ? new LegacyListDTO("News returned successfully", newsList.size(), 1, newsList.stream().map(LegacyNewsDTO::from).toList())
+                : new NewsGetResponseListDTO("News returned successfully", newsList.size(), 1, newsList);
+    }
+
+    @Benchmark
+    public void serializeListing(WireBytes wireBytes) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream();
+        OutputStream target = "gzip".equals(encoding) ? new GZIPOutputStream(counting, 8192) : counting;
+        writer.writeValue(target, response);
+
+        wireBytes.bytes += counting.count;
+        wireBytes.responses++;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long bytes;
+        public long responses;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            bytes = 0;
+            responses = 0;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    record LegacyListDTO(String message, long newsFound, int pagesFound, List<LegacyNewsDTO> news) { }
+
+    record LegacyNewsDTO(UUID id,
+                         String title,
+                         @JsonInclude(JsonInclude.Include.NON_NULL)
+                         String body,
+                         @JsonFormat(
+                                 shape = JsonFormat.Shape.STRING,
+                                 pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+                                 timezone = "America/Sao_Paulo"
+                         )
+                         Date publishedAt,
+                         String writer) {
+
+        static LegacyNewsDTO from(NewsGetResponseDTO news){
+            return new LegacyNewsDTO(news.id(), news.title(), news.body(), news.publishedAt(), news.writer());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.NewsAPI.benchmark;
+
+import com.example.NewsAPI.domain.services.TemporalService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemporalServiceBenchmark {
+
+    @Param({"24/10/2025", "none"})
+    String publicationDate;
+
+    TemporalService temporalService;
+
+    @Setup
+    public void setup(){
+        temporalService = new TemporalService();
+        if ("none".equals(publicationDate)) {
+            publicationDate = null;
+        }
+    }
+
+    @Benchmark
+    public void definesDateWindow(Blackhole blackhole){
+        Date startDate = temporalService.definesStartDate(publicationDate);
+        blackhole.consume(startDate);
+        blackhole.consume(temporalService.definesEndDate(publicationDate,startDate));
+    }
+
+    @Benchmark
+    public void legacyDefinesDateWindow(Blackhole blackhole) throws ParseException {
+        Date startDate = legacyDefinesStartDate(publicationDate);
+        blackhole.consume(startDate);
+        blackhole.consume(legacyDefinesEndDate(publicationDate,startDate));
+    }
+
+    private static Date legacyDefinesStartDate(String publicationDate) throws ParseException {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        if (publicationDate == null) {
+            return simpleDateFormat.parse("01/01/0001");
+        }
+        return simpleDateFormat.parse(publicationDate);
+    }
+
+    private static Date legacyDefinesEndDate(String publicationDate, Date startDate) throws ParseException {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        if (publicationDate == null) {
+            return simpleDateFormat.parse("31/12/9999");
+        }
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(startDate);
+        calendar.add(Calendar.DATE,1);
+        return calendar.getTime();
+    }
+}
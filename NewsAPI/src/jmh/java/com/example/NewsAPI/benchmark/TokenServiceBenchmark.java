@@ -0,0 +1,54 @@
+package com.example.NewsAPI.benchmark;
+
+import com.example.NewsAPI.domain.services.TemporalService;
+import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.UserTestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    TokenService tokenService;
+    User user;
+    String validToken;
+    String tamperedToken;
+
+    @Setup
+    public void setup(){
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "benchmark-secret");
+        ReflectionTestUtils.setField(tokenService, "temporalService", new TemporalService());
+        ReflectionTestUtils.setField(tokenService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(tokenService, "init");
+
+        user = UserTestFactory.buildOne("BenchmarkUser");
+        validToken = tokenService.generateToken(user);
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + (validToken.endsWith("AA") ? "BB" : "AA");
+        tokenService.validateTokenAndGetUsername(validToken);
+    }
+
+    @Benchmark
+    public String generateToken(){
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateCachedToken(){
+        return tokenService.validateTokenAndGetUsername(validToken);
+    }
+
+    @Benchmark
+    public String validateRejectedToken(){
+        return tokenService.validateTokenAndGetUsername(tamperedToken);
+    }
+}
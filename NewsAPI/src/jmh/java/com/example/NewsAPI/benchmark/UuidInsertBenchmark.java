@@ -0,0 +1,73 @@
+package com.example.NewsAPI.benchmark;
+
+import com.example.NewsAPI.domain.infra.persistence.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 50;
+    private static final int PRELOADED_ROWS = 200_000;
+
+    @Param({"v4", "v7"})
+    String uuidVersion;
+
+    Connection connection;
+    PreparedStatement insert;
+    Supplier<UUID> uuidSupplier;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        uuidSupplier = "v7".equals(uuidVersion) ? UuidV7Generator::next : UUID::randomUUID;
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid-insert-" + uuidVersion + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news");
+            statement.execute("CREATE TABLE news(id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, body TEXT NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO news(id, title, body) VALUES (?, ?, ?)");
+
+        for (int i = 0; i < PRELOADED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertNews() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, uuidSupplier.get());
+            insert.setString(2, "Benchmark news");
+            insert.setString(3, "Body of the benchmark news");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
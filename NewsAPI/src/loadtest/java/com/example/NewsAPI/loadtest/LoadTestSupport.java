@@ -0,0 +1,81 @@
+package com.example.NewsAPI.loadtest;
+
+import com.example.NewsAPI.NewsApiApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+class LoadTestSupport {
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+            .build();
+
+    private LoadTestSupport() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... profiles) {
+        return new SpringApplicationBuilder(NewsApiApplication.class)
+                .profiles(profiles)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.root", "WARN"))
+                .run();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port + "/news-api";
+    }
+
+    static String registerWriter(String baseUrl) throws Exception {
+        String username = "loadtest-writer";
+        String password = "loadtest-password";
+
+        send(post(baseUrl + "/user/register", null, Map.of("username", username, "password", password, "role", "WRITER")));
+        JsonNode login = OBJECT_MAPPER.readTree(send(post(baseUrl + "/user/login", null, Map.of("username", username, "password", password))).body());
+        return login.get("token").asText();
+    }
+
+    static Map<String, String> newsPayload(int number) {
+        return Map.of("title", "Load test news " + number, "body", "Body of the load test news number " + number + ". ".repeat(20));
+    }
+
+    static HttpResponse<String> send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    static HttpRequest post(String url, String token, Object body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
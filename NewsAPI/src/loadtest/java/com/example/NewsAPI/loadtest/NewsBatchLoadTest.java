@@ -0,0 +1,91 @@
+package com.example.NewsAPI.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.NewsAPI.loadtest.LoadTestSupport.*;
+
+public class NewsBatchLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 8);
+    private static final int ROWS = Integer.getInteger("loadtest.rows", 5_000);
+    private static final int BATCH_SIZE = Integer.getInteger("loadtest.batchSize", 100);
+    private static final int WARMUP_ROWS = Integer.getInteger("loadtest.warmupRows", 1_000);
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = start("loadtest-batch", "test")) {
+            String baseUrl = baseUrl(context);
+            String token = registerWriter(baseUrl);
+
+            System.out.printf("warming up with %d rows per path%n", WARMUP_ROWS);
+            insertOneByOne(baseUrl, token, WARMUP_ROWS);
+            insertInBatches(baseUrl, token, WARMUP_ROWS);
+
+            System.out.printf("inserting %d rows per path with %d clients, batches of %d%n", ROWS, CONCURRENCY, BATCH_SIZE);
+            double singleRowsPerSecond = insertOneByOne(baseUrl, token, ROWS);
+            double batchRowsPerSecond = insertInBatches(baseUrl, token, ROWS);
+
+            System.out.printf("%n%-10s %12s%n", "path", "rows/s");
+            System.out.printf("%-10s %12.1f%n", "single", singleRowsPerSecond);
+            System.out.printf("%-10s %12.1f%n", "batch", batchRowsPerSecond);
+            System.out.printf("%nbatch/single speedup: %.1fx%n", batchRowsPerSecond / singleRowsPerSecond);
+        }
+        System.exit(0);
+    }
+
+    private static double insertOneByOne(String baseUrl, String token, int rows) throws Exception {
+        return measure(rows, 1, next -> {
+            send(post(baseUrl + "/news", token, newsPayload(next)));
+            return 1;
+        });
+    }
+
+    private static double insertInBatches(String baseUrl, String token, int rows) throws Exception {
+        return measure(rows, BATCH_SIZE, next -> {
+            List<Map<String, String>> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(newsPayload(next + i));
+            }
+            JsonNode response = OBJECT_MAPPER.readTree(send(post(baseUrl + "/news/batch", token, batch)).body());
+            return response.get("created").asInt();
+        });
+    }
+
+    private static double measure(int rows, int rowsPerRequest, Insert insert) throws Exception {
+        AtomicInteger claimed = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    int inserted = 0;
+                    int next;
+                    while ((next = claimed.getAndAdd(rowsPerRequest)) < rows) {
+                        inserted += insert.run(next);
+                    }
+                    return inserted;
+                }));
+            }
+            int inserted = 0;
+            for (Future<Integer> future : futures) {
+                inserted += future.get();
+            }
+            return inserted / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Insert {
+        int run(int next) throws Exception;
+    }
+}
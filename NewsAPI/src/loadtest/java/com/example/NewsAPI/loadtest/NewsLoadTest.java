@@ -0,0 +1,150 @@
+package com.example.NewsAPI.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.example.NewsAPI.loadtest.LoadTestSupport.*;
+
+public class NewsLoadTest {
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+    private static final int SEED_NEWS = Integer.getInteger("loadtest.news", 500);
+    private static final List<String> MODES = List.of(System.getProperty("loadtest.modes", "platform,virtual").split(","));
+
+    public static void main(String[] args) throws Exception {
+        NewsLoadTest loadTest = new NewsLoadTest();
+        List<Result> results = new ArrayList<>();
+
+        for (String mode : MODES) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual mode: it needs a Java 21+ runtime, found " + Runtime.version());
+                continue;
+            }
+            results.add(loadTest.run(mode));
+        }
+
+        System.out.printf("%n%-10s %10s %12s %10s %10s %10s %8s%n", "mode", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %10d %12.1f %10.2f %10.2f %10.2f %8d%n",
+                    result.mode(), result.requests(), result.throughput(), result.p50Millis(), result.p99Millis(), result.maxMillis(), result.errors());
+        }
+        System.out.printf("%nboth modes ran on in-memory H2: the numbers compare the thread models, not the throughput of a Postgres deployment%n");
+        System.exit(0);
+    }
+
+    private Result run(String mode) throws Exception {
+        String[] profiles = mode.equals("virtual") ? new String[]{"test", "virtual"} : new String[]{"test"};
+
+        try (ConfigurableApplicationContext context = start("loadtest-" + mode, profiles)) {
+            String baseUrl = baseUrl(context);
+
+            String token = seed(baseUrl);
+            List<UUID> newsIds = fetchNewsIds(baseUrl, token);
+
+            System.out.printf("[%s] warming up for %s with %d clients%n", mode, WARMUP, CONCURRENCY);
+            drive(baseUrl, token, newsIds, WARMUP);
+
+            System.out.printf("[%s] measuring for %s%n", mode, DURATION);
+            long[][] latencies = drive(baseUrl, token, newsIds, DURATION);
+
+            return Result.of(mode, latencies, DURATION);
+        }
+    }
+
+    private String seed(String baseUrl) throws Exception {
+        String token = registerWriter(baseUrl);
+
+        for (int i = 0; i < SEED_NEWS; i++) {
+            send(post(baseUrl + "/news", token, newsPayload(i)));
+        }
+        return token;
+    }
+
+    private List<UUID> fetchNewsIds(String baseUrl, String token) throws Exception {
+        JsonNode listing = OBJECT_MAPPER.readTree(send(get(baseUrl + "/news", token)).body());
+        List<UUID> ids = new ArrayList<>();
+        listing.get("news").forEach(news -> ids.add(UUID.fromString(news.get("id").asText())));
+        return ids;
+    }
+
+    private long[][] drive(String baseUrl, String token, List<UUID> newsIds, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> client(baseUrl, token, newsIds, deadline)));
+            }
+            long[][] latencies = new long[CONCURRENCY][];
+            for (int i = 0; i < CONCURRENCY; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private long[] client(String baseUrl, String token, List<UUID> newsIds, long deadline) {
+        long[] samples = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = ThreadLocalRandom.current().nextBoolean()
+                    ? get(baseUrl + "/news?pageSize=20&page=" + ThreadLocalRandom.current().nextInt(5), token)
+                    : get(baseUrl + "/news/" + newsIds.get(ThreadLocalRandom.current().nextInt(newsIds.size())), token);
+            long start = System.nanoTime();
+            long latency;
+            try {
+                HttpResponse<Void> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+                latency = System.nanoTime() - start;
+                if (response.statusCode() >= 400) {
+                    latency = -latency;
+                }
+            } catch (Exception e) {
+                latency = -(System.nanoTime() - start);
+            }
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = latency;
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    private record Result(String mode, long requests, double throughput, double p50Millis, double p99Millis, double maxMillis, long errors) {
+
+        static Result of(String mode, long[][] latencies, Duration duration) {
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+            long errors = Arrays.stream(all).filter(latency -> latency < 0).count();
+            long[] sorted = Arrays.stream(all).map(Math::abs).sorted().toArray();
+            if (sorted.length == 0) {
+                return new Result(mode, 0, 0, 0, 0, 0, errors);
+            }
+            return new Result(mode,
+                    sorted.length,
+                    sorted.length / (duration.toNanos() / 1e9),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6,
+                    errors);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.NewsAPI.loadtest;
+
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.domain.user.UserRole;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.PrintStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.example.NewsAPI.loadtest.LoadTestSupport.*;
+
+public class NewsMixedLoadTest {
+    private static final int USERS = Integer.getInteger("loadtest.users", 1_000);
+    private static final int NEWS = Integer.getInteger("loadtest.news", 1_000_000);
+    private static final int SEED_CHUNK = Integer.getInteger("loadtest.seedChunk", 5_000);
+    private static final int SAMPLED_IDS = 10_000;
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 1_000);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final String MIX = System.getProperty("loadtest.mix", "list=40,get=40,create=10,login=10");
+    private static final Path OUTPUT = Path.of(System.getProperty("loadtest.output", "target/loadtest"));
+    private static final String PASSWORD = "loadtest-password";
+    private static final Instant FIRST_PUBLICATION = Instant.parse("2020-01-01T00:00:00Z");
+
+    private final Map<String, Integer> weights = parseMix(MIX);
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    private List<User> users;
+    private List<String> tokens;
+    private List<UUID> newsIds;
+
+    public static void main(String[] args) throws Exception {
+        new NewsMixedLoadTest().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        try (ConfigurableApplicationContext context = start("loadtest-mixed", "test")) {
+            String baseUrl = baseUrl(context);
+
+            seed(context);
+            weights.keySet().forEach(name -> endpoints.put(name, new Endpoint()));
+
+            System.out.printf("warming up for %s at %d req/s over %d clients, mix %s%n", WARMUP, RATE, CONCURRENCY, weights);
+            drive(baseUrl, WARMUP);
+            endpoints.values().forEach(Endpoint::reset);
+
+            System.out.printf("measuring for %s%n", DURATION);
+            drive(baseUrl, DURATION);
+
+            report();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        NewsRepository newsRepository = context.getBean(NewsRepository.class);
+        TokenService tokenService = context.getBean(TokenService.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        long start = System.nanoTime();
+        List<User> seededUsers = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = UserTestFactory.buildOne("loadtest-user-" + i, i % 2 == 0 ? UserRole.WRITER : UserRole.READER);
+            user.setPassword(encodedPassword);
+            seededUsers.add(user);
+        }
+        users = userRepository.saveAll(seededUsers);
+        List<User> writers = users.stream().filter(user -> user.getRole() == UserRole.WRITER).toList();
+        tokens = writers.stream().map(tokenService::generateToken).toList();
+
+        newsIds = new ArrayList<>(Math.min(NEWS, SAMPLED_IDS));
+        for (int seeded = 0; seeded < NEWS; seeded += SEED_CHUNK) {
+            int chunk = Math.min(SEED_CHUNK, NEWS - seeded);
+            List<News> newsChunk = new ArrayList<>(chunk);
+            for (int i = seeded; i < seeded + chunk; i++) {
+                newsChunk.add(NewsTestFactory.buildOneWithoutId("Load test news " + i, writers.get(i % writers.size()), Date.from(FIRST_PUBLICATION.plusSeconds(i * 60L))));
+            }
+            List<News> saved = newsRepository.saveAll(newsChunk);
+            for (int i = 0; i < saved.size(); i++) {
+                sampleId(saved.get(i).getId(), seeded + i);
+            }
+            if ((seeded / SEED_CHUNK) % 20 == 0) {
+                System.out.printf("seeded %d/%d news%n", seeded + chunk, NEWS);
+            }
+        }
+        System.out.printf("seeded %d users and %d news in %.1fs%n", USERS, NEWS, (System.nanoTime() - start) / 1e9);
+    }
+
+    private void sampleId(UUID id, long seen) {
+        if (newsIds.size() < SAMPLED_IDS) {
+            newsIds.add(id);
+            return;
+        }
+        long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+        if (slot < SAMPLED_IDS) {
+            newsIds.set((int) slot, id);
+        }
+    }
+
+    private void drive(String baseUrl, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                long firstSend = start + i * (1_000_000_000L / RATE);
+                futures.add(clients.submit(() -> client(baseUrl, firstSend, deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    // Each client owns a fixed schedule of intended send times. Latency is measured from the
+    // intended time, not from the actual send, so a stalled server is charged for the requests
+    // that queued up behind it instead of silently lowering the offered rate.
+    private Void client(String baseUrl, long firstSend, long deadline) throws Exception {
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        long interval = 1_000_000_000L * CONCURRENCY / RATE;
+        for (long intended = firstSend; intended < deadline; intended += interval) {
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String name = pick(random.nextInt(totalWeight));
+            HttpRequest request = request(name, baseUrl, random);
+
+            try {
+                HttpResponse<Void> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+                endpoints.get(name).record(System.nanoTime() - intended, response.statusCode() < 400);
+            } catch (Exception e) {
+                endpoints.get(name).record(System.nanoTime() - intended, false);
+            }
+        }
+        return null;
+    }
+
+    private String pick(int roll) {
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("The traffic mix is empty");
+    }
+
+    private HttpRequest request(String name, String baseUrl, ThreadLocalRandom random) throws Exception {
+        String token = tokens.get(random.nextInt(tokens.size()));
+        return switch (name) {
+            case "list" -> get(baseUrl + "/news?pageSize=20&page=" + random.nextInt(50), token);
+            case "writer" -> get(baseUrl + "/news?pageSize=20&writer=" + users.get(random.nextInt(users.size())).getUsername(), token);
+            case "get" -> get(baseUrl + "/news/" + newsIds.get(random.nextInt(newsIds.size())), token);
+            case "create" -> post(baseUrl + "/news", token, newsPayload(random.nextInt(Integer.MAX_VALUE)));
+            case "login" -> post(baseUrl + "/user/login", null, Map.of("username", users.get(random.nextInt(users.size())).getUsername(), "password", PASSWORD));
+            default -> throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + name);
+        };
+    }
+
+    private void report() throws Exception {
+        Files.createDirectories(OUTPUT);
+        double seconds = DURATION.toNanos() / 1e9;
+
+        System.out.printf("%n%-8s %10s %10s %10s %10s %10s %10s %10s %10s %8s %12s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "mean ms", "errors", "err p99 ms");
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram histogram = entry.getValue().latencies;
+            Histogram errors = entry.getValue().errorLatencies;
+            System.out.printf("%-8s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f %8d %12.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    histogram.getMean() / 1e6,
+                    errors.getTotalCount(),
+                    millis(errors.getValueAtPercentile(99)));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(OUTPUT.resolve(entry.getKey() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1e6);
+            }
+            if (errors.getTotalCount() > 0) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(OUTPUT.resolve(entry.getKey() + "-errors.hgrm")))) {
+                    errors.outputPercentileDistribution(out, 1e6);
+                }
+            }
+        }
+        System.out.printf("%nlatencies are measured from the intended send time at %d req/s offered%n", RATE);
+        System.out.printf("percentile distributions (ms) written to %s%n", OUTPUT.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        return weights;
+    }
+
+    private static class Endpoint {
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final Histogram errorLatencies = new ConcurrentHistogram(3);
+
+        void record(long latencyNanos, boolean success) {
+            (success ? latencies : errorLatencies).recordValue(latencyNanos);
+        }
+
+        void reset() {
+            latencies.reset();
+            errorLatencies.reset();
+        }
+    }
+}
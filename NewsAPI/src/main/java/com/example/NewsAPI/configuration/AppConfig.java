@@ -1,5 +1,9 @@
 package com.example.NewsAPI.configuration;
 
+import com.example.NewsAPI.domain.news.PublishedAtSerializer;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,8 +13,17 @@ import java.time.ZoneId;
 @Configuration
 public class AppConfig {
 
+    @Value("${news.json.dates-as-epoch-millis:false}")
+    boolean datesAsEpochMillis;
+
     @Bean
     Clock timeZonedClock(){
         return Clock.system(ZoneId.of("-03:00"));
     }
+
+    @Bean
+    Jackson2ObjectMapperBuilderCustomizer newsDatesCustomizer(){
+        return builder -> builder.postConfigurer(objectMapper -> objectMapper.setDefaultAttributes(
+                ContextAttributes.getEmpty().withSharedAttribute(PublishedAtSerializer.EPOCH_MILLIS_ATTRIBUTE, datesAsEpochMillis)));
+    }
 }
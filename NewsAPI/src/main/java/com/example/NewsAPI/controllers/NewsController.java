@@ -2,23 +2,45 @@ package com.example.NewsAPI.controllers;
 
 import com.example.NewsAPI.domain.news.*;
 import com.example.NewsAPI.domain.services.NewsService;
+import com.example.NewsAPI.domain.services.NewsVersionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("news-api/news")
 public class NewsController {
+    static final String CURSOR_PAGING = "cursor";
 
     @Autowired
     NewsService newsService;
 
+    @Autowired
+    NewsVersionService newsVersionService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<NewsResponseDTO> create(@RequestBody @Valid NewsRequestDTO data){
         News news = newsService.create(data);
@@ -32,38 +54,121 @@ public class NewsController {
         return ResponseEntity.created(location).body(new NewsResponseDTO("News created successfully",news.getId(),news.getTitle(), news.getBody(),news.getPublishedAt(),news.getWriter().getUsername()));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<NewsBatchResponseDTO> createBatch(@RequestBody List<NewsRequestDTO> data){
+        NewsBatchResponseDTO response = newsService.createBatch(data);
+
+        HttpStatus status = response.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping
     public ResponseEntity<NewsGetResponseListDTO> get(@RequestParam(defaultValue = "0") int page,
                                                         @RequestParam(defaultValue = "-1") int pageSize,
                                                         @RequestParam(required = false) String title,
                                                         @RequestParam(required = false) String writer,
-                                                        @RequestParam(required = false) String publicationDate
+                                                        @RequestParam(required = false) String publicationDate,
+                                                        @RequestParam(required = false) Instant from,
+                                                        @RequestParam(required = false) Instant to,
+                                                        @RequestParam(required = false) Duration since,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) String paging,
+                                                        @RequestParam(defaultValue = "true") boolean includeBody,
+                                                        WebRequest webRequest
     ){
+        NewsFilter filter = new NewsFilter(title,writer,publicationDate,from,to,since);
+
+        if (!filter.isRelative() && isNotModified(newsVersionService.getFeedVersion(),webRequest)){
+            return null;
+        }
+
         if (pageSize <= 0){
-            List<NewsGetResponseDTO> newsList = newsService.get(title,writer,publicationDate);
+            List<NewsGetResponseDTO> newsList = newsService.get(filter,includeBody);
             return ResponseEntity.ok().body(new NewsGetResponseListDTO("News returned successfully",newsList.size(),1,newsList));
+        }else if (cursor != null || CURSOR_PAGING.equalsIgnoreCase(paging)){
+            NewsGetResponseListDTO response = newsService.getNewsByCursor(filter,cursor,pageSize,includeBody);
+            return ResponseEntity.ok().body(response);
         }else {
-            NewsGetResponseListDTO response = newsService.getNewsPaged(title,writer,publicationDate,page,pageSize);
+            NewsGetResponseListDTO response = newsService.getNewsPaged(filter,page,pageSize,includeBody);
             return ResponseEntity.ok().body(response);
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam(required = false) String title,
+                                                        @RequestParam(required = false) String writer,
+                                                        @RequestParam(required = false) String publicationDate,
+                                                        @RequestParam(required = false) Instant from,
+                                                        @RequestParam(required = false) Instant to,
+                                                        @RequestParam(required = false) Duration since,
+                                                        @RequestParam(defaultValue = "true") boolean includeBody
+    ){
+        NewsFilter filter = new NewsFilter(title,writer,publicationDate,from,to,since);
+        ObjectWriter newsWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                newsService.forEachNews(filter,includeBody,news -> {
+                    try {
+                        newsWriter.writeValue(generator,news);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<NewsSearchResponseListDTO> search(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "10") int pageSize
+    ){
+        NewsSearchResponseListDTO response = newsService.search(q,page,pageSize);
+        return ResponseEntity.ok().body(response);
+    }
+
     @GetMapping("/{newsId}")
-    public ResponseEntity<NewsResponseDTO> getOne(@PathVariable UUID newsId){
-        News news = newsService.getOne(newsId);
-        return ResponseEntity.ok().body(new NewsResponseDTO("News found successfully",news.getId(),news.getTitle(), news.getBody(),news.getPublishedAt(),news.getWriter().getUsername()));
+    public ResponseEntity<NewsResponseDTO> getOne(@PathVariable UUID newsId, WebRequest webRequest){
+        NewsRevision revision = newsService.getOne(newsId);
+        if (isNotModified(Optional.of(newsVersionService.getNewsVersion(revision)),webRequest)){
+            return null;
+        }
+
+        NewsGetResponseDTO news = revision.news();
+        return ResponseEntity.ok().body(new NewsResponseDTO("News found successfully",news.id(),news.title(),news.body(),news.publishedAt(),news.writer()));
     }
 
     @PutMapping("/{newsId}")
-    public ResponseEntity<NewsResponseDTO> update(@PathVariable UUID newsId, @RequestBody NewsRequestDTO data){
-        News updatedNews = newsService.update(newsId,data);
+    public ResponseEntity<NewsResponseDTO> update(@PathVariable UUID newsId,
+                                                  @RequestBody NewsRequestDTO data,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ){
+        News updatedNews = newsService.update(newsId,data,newsVersionService.expectedVersion(newsId,ifMatch).orElse(null));
         return ResponseEntity.ok().body(new NewsResponseDTO("News updated successfully",updatedNews.getId(),updatedNews.getTitle(), updatedNews.getBody(),updatedNews.getPublishedAt(),updatedNews.getWriter().getUsername()));
     }
 
+    @PatchMapping("/{newsId}")
+    public ResponseEntity<NewsResponseDTO> patch(@PathVariable UUID newsId,
+                                                 @RequestBody NewsRequestDTO data,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ){
+        NewsGetResponseDTO patchedNews = newsService.patch(newsId,data,newsVersionService.expectedVersion(newsId,ifMatch).orElse(null));
+        return ResponseEntity.ok().body(new NewsResponseDTO("News updated successfully",patchedNews.id(),patchedNews.title(),patchedNews.body(),patchedNews.publishedAt(),patchedNews.writer()));
+    }
+
     @DeleteMapping("/{newsId}")
-    public ResponseEntity<NewsResponseDTO> delete(@PathVariable UUID newsId){
-        News newsDeleted = newsService.delete(newsId);
-        return ResponseEntity.ok().body(new NewsResponseDTO("News deleted successfully",newsDeleted.getId(),newsDeleted.getTitle(), newsDeleted.getBody(),newsDeleted.getPublishedAt(),newsDeleted.getWriter().getUsername()));
+    public ResponseEntity<NewsResponseDTO> delete(@PathVariable UUID newsId,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ){
+        NewsGetResponseDTO newsDeleted = newsService.delete(newsId,newsVersionService.expectedVersion(newsId,ifMatch).orElse(null));
+        return ResponseEntity.ok().body(new NewsResponseDTO("News deleted successfully",newsDeleted.id(),newsDeleted.title(),newsDeleted.body(),newsDeleted.publishedAt(),newsDeleted.writer()));
     }
 
+    private boolean isNotModified(Optional<NewsVersion> version, WebRequest webRequest){
+        return version.isPresent() && webRequest.checkNotModified(version.get().eTag(),version.get().lastModified().toEpochMilli());
+    }
 }
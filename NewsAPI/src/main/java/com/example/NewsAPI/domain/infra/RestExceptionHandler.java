@@ -1,7 +1,9 @@
 package com.example.NewsAPI.domain.infra;
 
 import com.example.NewsAPI.exception.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -26,6 +28,31 @@ public class RestExceptionHandler {
         return ResponseEntity.status(400).body("Error converting data. This parameter must be sent in DD/MM/YYYY format.");
     }
 
+    @ExceptionHandler(InvalidDateRangeException.class)
+    private ResponseEntity<String> invalidDateRangeExceptionHandler(){
+        return ResponseEntity.status(400).body("Invalid date range. The from instant must be before the to instant and the since window must be a positive ISO-8601 duration.");
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    private ResponseEntity<String> invalidCursorExceptionHandler(){
+        return ResponseEntity.status(400).body("The pagination cursor sent is invalid. Use the nextCursor value returned by the previous page.");
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    private ResponseEntity<String> invalidSearchQueryExceptionHandler(){
+        return ResponseEntity.status(400).body("The search query must contain at least one term.");
+    }
+
+    @ExceptionHandler(InvalidBatchException.class)
+    private ResponseEntity<String> invalidBatchExceptionHandler(InvalidBatchException exception){
+        return ResponseEntity.status(400).body(exception.getMessage() + ".");
+    }
+
+    @ExceptionHandler(InvalidNewsUpdateException.class)
+    private ResponseEntity<String> invalidNewsUpdateExceptionHandler(){
+        return ResponseEntity.status(400).body("At least one of title or body must be sent to update a news.");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> methodArgumentNotValidExceptionHandler(MethodArgumentNotValidException exception) {
         Map<String, String> errors = exception.getBindingResult()
@@ -44,6 +71,11 @@ public class RestExceptionHandler {
         return ResponseEntity.status(401).body("Incorrect username or password.");
     }
 
+    @ExceptionHandler(AuthenticatedUserNotFoundException.class)
+    private ResponseEntity<String> authenticatedUserNotFoundExceptionHandler(){
+        return ResponseEntity.status(401).body("Invalid authentication credentials. Please log in again.");
+    }
+
     @ExceptionHandler(BelongsToAnotherWriterException.class)
     private ResponseEntity<String> belongsToAnotherWriterExceptionHandler(Exception e){
         return ResponseEntity.status(403).body(e.getMessage());
@@ -54,6 +86,21 @@ public class RestExceptionHandler {
         return ResponseEntity.status(404).body("No news item was found with the provided ID");
     }
 
+    @ExceptionHandler(NewsVersionMismatchException.class)
+    private ResponseEntity<String> newsVersionMismatchExceptionHandler(){
+        return ResponseEntity.status(412).body("The news was modified since the version sent in If-Match. Fetch it again and retry with the new ETag.");
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    private ResponseEntity<String> objectOptimisticLockingFailureExceptionHandler(){
+        return ResponseEntity.status(409).body("The news was modified by another request at the same time. Fetch it again and retry.");
+    }
+
+    @ExceptionHandler(PasswordHashingSaturatedException.class)
+    private ResponseEntity<String> passwordHashingSaturatedExceptionHandler(){
+        return ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER,"1").body("Too many authentication requests at the moment. Try again shortly.");
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     private ResponseEntity<String> NoResourceFoundException(){
         return ResponseEntity.status(404).body("No endpoint was found matching the provided URL");
@@ -0,0 +1,70 @@
+package com.example.NewsAPI.domain.infra.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource){
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection){
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement){
+                return countingStatement(statement, CallableStatement.class);
+            }
+            if (result instanceof PreparedStatement statement){
+                return countingStatement(statement, PreparedStatement.class);
+            }
+            if (result instanceof Statement statement){
+                return countingStatement(statement, Statement.class);
+            }
+            return result;
+        });
+    }
+
+    private static Object countingStatement(Statement statement, Class<? extends Statement> type){
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")){
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                QueryStats.record(System.nanoTime() - start);
+            }
+        };
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception){
+            throw exception.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.NewsAPI.domain.infra.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "diagnostics.query.enabled", havingValue = "true")
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(QueryDiagnosticsFilter.class);
+
+    @Autowired
+    ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${diagnostics.query.max-statements:10}")
+    int maxStatements;
+
+    @Value("${diagnostics.query.max-jdbc-time:200ms}")
+    Duration maxJdbcTime;
+
+    MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init(){
+        meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        request.setAttribute(QueryStats.ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request,response);
+        } finally {
+            QueryStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats){
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .description("SQL statements executed while serving a request")
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .description("Time spent in JDBC while serving a request")
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > maxStatements || stats.getJdbcNanos() > maxJdbcTime.toNanos()){
+            meterRegistry.counter("http.server.requests.sql.threshold.exceeded", "method", request.getMethod(), "uri", uri).increment();
+            log.warn("{} {} executed {} SQL statements in {} ms (thresholds: {} statements, {} ms)",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), String.format("%.2f", stats.getJdbcMillis()),
+                    maxStatements, maxJdbcTime.toMillis());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.NewsAPI.domain.infra.diagnostics;
+
+public class QueryStats {
+    public static final String ATTRIBUTE = QueryStats.class.getName();
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    static QueryStats begin(){
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current(){
+        return CURRENT.get();
+    }
+
+    static void end(){
+        CURRENT.remove();
+    }
+
+    static void record(long nanos){
+        QueryStats stats = CURRENT.get();
+        if (stats != null){
+            stats.statements++;
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public int getStatements(){
+        return statements;
+    }
+
+    public long getJdbcNanos(){
+        return jdbcNanos;
+    }
+
+    public double getJdbcMillis(){
+        return jdbcNanos / 1e6;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.NewsAPI.domain.infra.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// With virtual threads every accepted connection gets its own request thread, so nothing
+// upstream of Hikari bounds how many requests queue for a pooled connection. This filter caps
+// the API requests in flight to roughly the pool size and sheds the excess with a 503 after a
+// short wait, instead of letting them pile up until the pool's connection-timeout. It runs
+// ahead of the security chain, because SecurityFilter loads the caller from the database too.
+// A request that goes async (the NDJSON stream) keeps its permit until the async work
+// completes, errors or times out, since that is when it gives its connection back.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "database.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+    static final String API_PREFIX = "/news-api/";
+
+    @Autowired
+    ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${database.bulkhead.max-concurrent:20}")
+    int maxConcurrent;
+
+    @Value("${database.bulkhead.max-wait:500ms}")
+    Duration maxWait;
+
+    Semaphore permits;
+
+    Counter admitted;
+    Counter rejected;
+
+    @PostConstruct
+    void init(){
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+
+        permits = new Semaphore(maxConcurrent, true);
+
+        admitted = requestCounter(meterRegistry, "admitted");
+        rejected = requestCounter(meterRegistry, "rejected");
+        Gauge.builder("database.bulkhead.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("API requests currently holding a database bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request){
+        return !request.getRequestURI().substring(request.getContextPath().length()).startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.getWriter().write("The service is busy. Try again in 1 second.");
+            return;
+        }
+
+        admitted.increment();
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request,response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    // Released once: the container may report onError and then onComplete for the same request.
+    private class Permit implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release(){
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event){
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event){
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event){
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event){
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String outcome){
+        return Counter.builder("database.bulkhead.requests")
+                .tag("outcome", outcome)
+                .description("API requests evaluated by the database bulkhead")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public final class AuthStepTimer {
+    public static final String NAME = "auth.step";
+
+    private AuthStepTimer() {
+    }
+
+    public static Timer register(MeterRegistry meterRegistry, String step) {
+        return Timer.builder(NAME)
+                .tag("step", step)
+                .description("Time spent in each authentication step")
+                .register(meterRegistry);
+    }
+}
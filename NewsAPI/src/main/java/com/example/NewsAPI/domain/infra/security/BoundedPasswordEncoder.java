@@ -0,0 +1,101 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import com.example.NewsAPI.exception.PasswordHashingSaturatedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = AuthStepTimer.register(meterRegistry, "password.encode");
+        this.matchTimer = AuthStepTimer.register(meterRegistry, "password.match");
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // The timeout bounds the wait for a free worker only. A hash that has started runs to
+    // completion: BCrypt never checks the interrupt flag, so cancelling it would only hide
+    // the CPU it keeps burning.
+    private <T> T submit(Callable<T> task) {
+        CountDownLatch started = new CountDownLatch(1);
+        FutureTask<T> future = new FutureTask<>(() -> {
+            started.countDown();
+            return task.call();
+        });
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException exception) {
+            throw new PasswordHashingSaturatedException("The password hashing pool is saturated");
+        }
+
+        try {
+            if (!started.await(timeout.toMillis(), TimeUnit.MILLISECONDS) && future.cancel(false)) {
+                executor.remove(future);
+                throw new PasswordHashingSaturatedException("Timed out waiting for the password hashing pool");
+            }
+            return future.get();
+        } catch (InterruptedException exception) {
+            if (future.cancel(false)) {
+                executor.remove(future);
+            }
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingSaturatedException("Interrupted while waiting for the password hashing pool");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
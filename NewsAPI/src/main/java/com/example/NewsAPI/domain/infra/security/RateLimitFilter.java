@@ -0,0 +1,167 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum Tier { EXPENSIVE, CHEAP }
+
+    @Autowired
+    ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${rate-limit.enabled:true}")
+    boolean enabled;
+
+    @Value("${rate-limit.expensive.capacity:20}")
+    long expensiveCapacity;
+
+    @Value("${rate-limit.expensive.refill-per-second:2}")
+    double expensiveRefillPerSecond;
+
+    @Value("${rate-limit.cheap.capacity:200}")
+    long cheapCapacity;
+
+    @Value("${rate-limit.cheap.refill-per-second:50}")
+    double cheapRefillPerSecond;
+
+    @Value("${rate-limit.max-clients:100000}")
+    long maxClients;
+
+    @Value("${rate-limit.idle-expiry:10m}")
+    Duration idleExpiry;
+
+    Cache<String, TokenBucket> expensiveBuckets;
+    Cache<String, TokenBucket> cheapBuckets;
+
+    Counter expensiveAllowed;
+    Counter expensiveRejected;
+    Counter cheapAllowed;
+    Counter cheapRejected;
+
+    @PostConstruct
+    void init(){
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+
+        expensiveBuckets = buildBuckets();
+        cheapBuckets = buildBuckets();
+
+        expensiveAllowed = requestCounter(meterRegistry, Tier.EXPENSIVE, "allowed");
+        expensiveRejected = requestCounter(meterRegistry, Tier.EXPENSIVE, "rejected");
+        cheapAllowed = requestCounter(meterRegistry, Tier.CHEAP, "allowed");
+        cheapRejected = requestCounter(meterRegistry, Tier.CHEAP, "rejected");
+
+        Gauge.builder("ratelimit.clients", expensiveBuckets, Cache::estimatedSize)
+                .tag("tier", "expensive")
+                .description("Clients currently tracked by the rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.clients", cheapBuckets, Cache::estimatedSize)
+                .tag("tier", "cheap")
+                .description("Clients currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request,response);
+            return;
+        }
+
+        Tier tier = classify(request);
+        String key = clientKey(request);
+        long waitNanos = tier == Tier.EXPENSIVE
+                ? expensiveBuckets.get(key, k -> new TokenBucket(expensiveCapacity, expensiveRefillPerSecond, System::nanoTime)).tryConsume()
+                : cheapBuckets.get(key, k -> new TokenBucket(cheapCapacity, cheapRefillPerSecond, System::nanoTime)).tryConsume();
+
+        if (waitNanos > 0) {
+            (tier == Tier.EXPENSIVE ? expensiveRejected : cheapRejected).increment();
+            long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.getWriter().write("Too many requests. Try again in " + retryAfterSeconds + " seconds.");
+            return;
+        }
+
+        (tier == Tier.EXPENSIVE ? expensiveAllowed : cheapAllowed).increment();
+        filterChain.doFilter(request,response);
+    }
+
+    Tier classify(HttpServletRequest request){
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        if (HttpMethod.POST.matches(method) && (path.equals("/news-api/user/login") || path.equals("/news-api/user/register"))) {
+            return Tier.EXPENSIVE;
+        }
+        if (HttpMethod.GET.matches(method) && path.equals("/news-api/news") && isUnpaged(request)) {
+            return Tier.EXPENSIVE;
+        }
+        return Tier.CHEAP;
+    }
+
+    // Anonymous clients are keyed by getRemoteAddr(), which is the client address only when the
+    // forwarded headers of a trusted proxy are applied (server.forward-headers-strategy). Without
+    // that, every client behind a load balancer shares the proxy's bucket.
+    String clientKey(HttpServletRequest request){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean isUnpaged(HttpServletRequest request){
+        String pageSize = request.getParameter("pageSize");
+        if (pageSize == null) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(pageSize.trim()) <= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Cache<String, TokenBucket> buildBuckets(){
+        return Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, Tier tier, String outcome){
+        return Counter.builder("ratelimit.requests")
+                .tag("tier", tier.name().toLowerCase())
+                .tag("outcome", outcome)
+                .description("Requests evaluated by the rate limiter")
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.NewsAPI.domain.infra.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +15,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
@@ -20,6 +23,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -28,9 +32,24 @@ public class SecurityConfiguration {
     @Value("${frontend.url}")
     String frontendUrl;
 
+    @Value("${password.bcrypt.strength}")
+    int bcryptStrength;
+
+    @Value("${password.hashing.threads}")
+    int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity}")
+    int hashingQueueCapacity;
+
+    @Value("${password.hashing.timeout}")
+    Duration hashingTimeout;
+
     @Autowired
     SecurityFilter securityFilter;
 
+    @Autowired
+    RateLimitFilter rateLimitFilter;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception{
         return httpSecurity.
@@ -38,19 +57,24 @@ public class SecurityConfiguration {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST,"/news-api/user/login").permitAll()
                         .requestMatchers(HttpMethod.POST,"/news-api/user/register").permitAll()
                         .requestMatchers(HttpMethod.POST,"/news-api/news").hasRole("WRITER")
+                        .requestMatchers(HttpMethod.POST,"/news-api/news/batch").hasRole("WRITER")
                         .requestMatchers(HttpMethod.GET,"/news-api/news").authenticated()
                         .requestMatchers(HttpMethod.GET,"/news-api/news/**").authenticated()
                         .requestMatchers(HttpMethod.PUT,"/news-api/news/**").hasRole("WRITER")
+                        .requestMatchers(HttpMethod.PATCH,"/news-api/news/**").hasRole("WRITER")
                         .requestMatchers(HttpMethod.DELETE,"/news-api/news/**").hasRole("WRITER")
                         .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/metrics/**","/actuator/prometheus").hasRole("WRITER")
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
@@ -60,13 +84,15 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    PasswordEncoder passwordEncoder(){return new BCryptPasswordEncoder();}
+    PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry){
+        return new BoundedPasswordEncoder(new CostAwareBCryptPasswordEncoder(bcryptStrength),hashingThreads,hashingQueueCapacity,hashingTimeout,meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
 
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of(frontendUrl));
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
 
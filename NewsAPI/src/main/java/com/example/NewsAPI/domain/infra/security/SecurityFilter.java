@@ -1,7 +1,7 @@
 package com.example.NewsAPI.domain.infra.security;
 
-import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.services.UserCacheService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +19,7 @@ import java.io.IOException;
 public class SecurityFilter extends OncePerRequestFilter {
 
     @Autowired
-    UserRepository userRepository;
+    UserCacheService userCacheService;
 
     @Autowired
     TokenService tokenService;
@@ -31,7 +31,7 @@ public class SecurityFilter extends OncePerRequestFilter {
         if (token!=null) {
             try{
                 String username = tokenService.validateTokenAndGetUsername(token);
-                UserDetails user = userRepository.findByUsername(username);
+                UserDetails user = userCacheService.findByUsername(username);
 
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
@@ -0,0 +1,11 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.Date;
+import java.util.UUID;
+
+public interface DeletedNewsView {
+    UUID getId();
+    String getTitle();
+    String getBody();
+    Date getPublishedAt();
+}
@@ -1,4 +1,5 @@
 package com.example.NewsAPI.domain.news;
+import com.example.NewsAPI.domain.infra.persistence.UuidV7;
 import com.example.NewsAPI.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -6,14 +7,17 @@ import lombok.*;
 import java.util.Date;
 import java.util.UUID;
 
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        @Index(name = "ix_news_published_at_id", columnList = "published_at DESC, id DESC"),
+        @Index(name = "ix_news_writer_id_published_at", columnList = "writer_id, published_at DESC")
+})
 @Entity
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class News {
-    @GeneratedValue
+    @UuidV7
     @Id
     private UUID id;
     private String title;
@@ -22,5 +26,12 @@ public class News {
     @ManyToOne
     @JoinColumn(name = "writer_id")
     private User writer;
+    private Date updatedAt;
+    @Version
+    private Long version;
+
+    public News(UUID id, String title, String body, Date publishedAt, User writer) {
+        this(id, title, body, publishedAt, writer, publishedAt, null);
+    }
 }
 
@@ -0,0 +1,18 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record NewsBatchItemResultDTO(int index,
+                                     String status,
+                                     UUID id,
+                                     Map<String, String> errors) {
+
+    public static NewsBatchItemResultDTO created(int index, UUID id){
+        return new NewsBatchItemResultDTO(index, "CREATED", id, Map.of());
+    }
+
+    public static NewsBatchItemResultDTO rejected(int index, Map<String, String> errors){
+        return new NewsBatchItemResultDTO(index, "REJECTED", null, errors);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.List;
+
+public record NewsBatchResponseDTO(String message,
+                                   int created,
+                                   int rejected,
+                                   List<NewsBatchItemResultDTO> results) {
+}
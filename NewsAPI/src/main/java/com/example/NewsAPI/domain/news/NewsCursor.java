@@ -0,0 +1,36 @@
+package com.example.NewsAPI.domain.news;
+
+import com.example.NewsAPI.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+public record NewsCursor(Date publishedAt, UUID id) {
+
+    public static NewsCursor from(NewsGetResponseDTO news){
+        return new NewsCursor(news.publishedAt(), news.id());
+    }
+
+    public static NewsCursor decode(String cursor){
+        if (cursor == null || cursor.isBlank()){
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new NewsCursor(
+                    new Date(Long.parseLong(decoded.substring(0, separator))),
+                    UUID.fromString(decoded.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid pagination cursor");
+        }
+    }
+
+    public String encode(){
+        String raw = publishedAt.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.NewsAPI.domain.news;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+@Table(name = "news_feed_version")
+@Entity
+@Immutable
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NewsFeedVersion {
+    @Id
+    private Short id;
+    private Long version;
+    private Instant updatedAt;
+}
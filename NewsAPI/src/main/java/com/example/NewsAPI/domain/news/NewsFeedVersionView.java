@@ -0,0 +1,8 @@
+package com.example.NewsAPI.domain.news;
+
+import java.time.Instant;
+
+public interface NewsFeedVersionView {
+    Long getVersion();
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,20 @@
+package com.example.NewsAPI.domain.news;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record NewsFilter(String title,
+                         String writer,
+                         String publicationDate,
+                         Instant from,
+                         Instant to,
+                         Duration since) {
+
+    public static NewsFilter of(String title, String writer, String publicationDate){
+        return new NewsFilter(title, writer, publicationDate, null, null, null);
+    }
+
+    public boolean isRelative(){
+        return since != null;
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.NewsAPI.domain.news;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.util.Date;
 import java.util.UUID;
 
+@JsonSerialize(using = NewsGetResponseDTOSerializer.class)
 public record NewsGetResponseDTO(UUID id,
                                  String title,
                                  String body,
-                                 @JsonFormat(
-                                         shape = JsonFormat.Shape.STRING,
-                                         pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
-                                         timezone = "America/Sao_Paulo"
-                                 )
                                  Date publishedAt,
                                  String writer) {
+
+    public static NewsGetResponseDTO from(News news){
+        return new NewsGetResponseDTO(news.getId(),news.getTitle(),news.getBody(),news.getPublishedAt(),news.getWriter().getUsername());
+    }
+
+    public static NewsGetResponseDTO from(DeletedNewsView news, String writer){
+        return new NewsGetResponseDTO(news.getId(),news.getTitle(),news.getBody(),news.getPublishedAt(),writer);
+    }
 }
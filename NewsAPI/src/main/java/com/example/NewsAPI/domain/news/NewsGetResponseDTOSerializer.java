@@ -0,0 +1,43 @@
+package com.example.NewsAPI.domain.news;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class NewsGetResponseDTOSerializer extends StdSerializer<NewsGetResponseDTO> {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString BODY = new SerializedString("body");
+    private static final SerializableString PUBLISHED_AT = new SerializedString("publishedAt");
+    private static final SerializableString WRITER = new SerializedString("writer");
+
+    public NewsGetResponseDTOSerializer() {
+        super(NewsGetResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(NewsGetResponseDTO news, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(news);
+        generator.writeFieldName(ID);
+        if (news.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(news.id().toString());
+        }
+        generator.writeFieldName(TITLE);
+        generator.writeString(news.title());
+        if (news.body() != null) {
+            generator.writeFieldName(BODY);
+            generator.writeString(news.body());
+        }
+        generator.writeFieldName(PUBLISHED_AT);
+        PublishedAtSerializer.write(news.publishedAt(), generator, provider);
+        generator.writeFieldName(WRITER);
+        generator.writeString(news.writer());
+        generator.writeEndObject();
+    }
+}
@@ -1,6 +1,25 @@
 package com.example.NewsAPI.domain.news;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
-public record NewsGetResponseListDTO(String message, long newsFound, int pagesFound, List<NewsGetResponseDTO> news) {
+// A cursor page does not count the matching news, so newsFound and pagesFound are null and left
+// out of the JSON; the client keeps following nextCursor until it is absent.
+public record NewsGetResponseListDTO(String message,
+                                     @JsonInclude(JsonInclude.Include.NON_NULL)
+                                     Long newsFound,
+                                     @JsonInclude(JsonInclude.Include.NON_NULL)
+                                     Integer pagesFound,
+                                     List<NewsGetResponseDTO> news,
+                                     @JsonInclude(JsonInclude.Include.NON_NULL)
+                                     String nextCursor) {
+
+    public NewsGetResponseListDTO(String message, long newsFound, int pagesFound, List<NewsGetResponseDTO> news) {
+        this(message, Long.valueOf(newsFound), Integer.valueOf(pagesFound), news, null);
+    }
+
+    public static NewsGetResponseListDTO cursorPage(String message, List<NewsGetResponseDTO> news, String nextCursor) {
+        return new NewsGetResponseListDTO(message, null, null, news, nextCursor);
+    }
 }
@@ -1,6 +1,6 @@
 package com.example.NewsAPI.domain.news;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.Date;
 import java.util.UUID;
 
@@ -8,11 +8,7 @@ public record NewsResponseDTO(String message,
                               UUID id,
                               String title,
                               String body,
-                              @JsonFormat(
-                                      shape = JsonFormat.Shape.STRING,
-                                      pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
-                                      timezone = "America/Sao_Paulo"
-                              )
+                              @JsonSerialize(using = PublishedAtSerializer.class)
                               Date publishedAt,
                               String writer) {
 }
@@ -0,0 +1,21 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.Date;
+import java.util.UUID;
+
+public record NewsRevision(NewsGetResponseDTO news,
+                           Long version,
+                           Date updatedAt) {
+
+    public NewsRevision(UUID id, String title, String body, Date publishedAt, String writer, Long version, Date updatedAt){
+        this(new NewsGetResponseDTO(id,title,body,publishedAt,writer),version,updatedAt);
+    }
+
+    public static NewsRevision from(News news){
+        return new NewsRevision(NewsGetResponseDTO.from(news),news.getVersion(),news.getUpdatedAt());
+    }
+
+    public static NewsRevision from(PatchedNewsView news, String writer){
+        return new NewsRevision(news.getId(),news.getTitle(),news.getBody(),news.getPublishedAt(),writer,news.getVersion(),news.getUpdatedAt());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.NewsAPI.domain.news;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * highlightedTitle and snippet are safe HTML: the stored text is HTML-escaped and the only
+ * markup left is the {@code <mark>} element wrapping the matched terms.
+ */
+public record NewsSearchResponseDTO(UUID id,
+                                    String title,
+                                    String highlightedTitle,
+                                    String snippet,
+                                    @JsonSerialize(using = PublishedAtSerializer.class)
+                                    Date publishedAt,
+                                    String writer) {
+
+    public static final String HIGHLIGHT_START = "\u0002";
+    public static final String HIGHLIGHT_STOP = "\u0003";
+
+    public static NewsSearchResponseDTO from(NewsSearchView view){
+        return new NewsSearchResponseDTO(view.getId(),view.getTitle(),toSafeHtml(view.getHighlightedTitle()),toSafeHtml(view.getSnippet()),view.getPublishedAt(),view.getWriter());
+    }
+
+    static String toSafeHtml(String headline){
+        if (headline == null){
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, StandardCharsets.UTF_8.name())
+                .replace(HIGHLIGHT_START, "<mark>")
+                .replace(HIGHLIGHT_STOP, "</mark>");
+    }
+}
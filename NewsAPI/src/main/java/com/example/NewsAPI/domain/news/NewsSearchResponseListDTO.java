@@ -0,0 +1,13 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.List;
+
+/**
+ * Search ranks only the newest 1000 matches, so newsFound and pagesFound never go past them
+ * and a query matching more news reports 1000.
+ */
+public record NewsSearchResponseListDTO(String message,
+                                        long newsFound,
+                                        int pagesFound,
+                                        List<NewsSearchResponseDTO> news) {
+}
@@ -0,0 +1,13 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.Date;
+import java.util.UUID;
+
+public interface NewsSearchView {
+    UUID getId();
+    String getTitle();
+    String getHighlightedTitle();
+    String getSnippet();
+    Date getPublishedAt();
+    String getWriter();
+}
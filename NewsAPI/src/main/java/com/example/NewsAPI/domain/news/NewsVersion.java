@@ -0,0 +1,6 @@
+package com.example.NewsAPI.domain.news;
+
+import java.time.Instant;
+
+public record NewsVersion(String eTag, Instant lastModified) {
+}
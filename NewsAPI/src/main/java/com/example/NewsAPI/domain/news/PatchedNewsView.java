@@ -0,0 +1,13 @@
+package com.example.NewsAPI.domain.news;
+
+import java.util.Date;
+import java.util.UUID;
+
+public interface PatchedNewsView {
+    UUID getId();
+    String getTitle();
+    String getBody();
+    Date getPublishedAt();
+    Long getVersion();
+    Date getUpdatedAt();
+}
@@ -0,0 +1,38 @@
+package com.example.NewsAPI.domain.news;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+public class PublishedAtSerializer extends StdSerializer<Date> {
+    public static final String EPOCH_MILLIS_ATTRIBUTE = PublishedAtSerializer.class.getName() + ".epochMillis";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+            .withZone(ZoneId.of("America/Sao_Paulo"));
+
+    public PublishedAtSerializer() {
+        super(Date.class);
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(value, generator, provider);
+    }
+
+    static void write(Date value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (Boolean.TRUE.equals(provider.getAttribute(EPOCH_MILLIS_ATTRIBUTE))) {
+            generator.writeNumber(value.getTime());
+        } else {
+            generator.writeString(FORMATTER.format(Instant.ofEpochMilli(value.getTime())));
+        }
+    }
+}
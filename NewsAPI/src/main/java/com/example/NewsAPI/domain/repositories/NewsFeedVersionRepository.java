@@ -0,0 +1,11 @@
+package com.example.NewsAPI.domain.repositories;
+
+import com.example.NewsAPI.domain.news.NewsFeedVersion;
+import com.example.NewsAPI.domain.news.NewsFeedVersionView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NewsFeedVersionRepository extends JpaRepository<NewsFeedVersion, Short> {
+    @Query("SELECT sum(f.version) AS version, max(f.updatedAt) AS updatedAt FROM NewsFeedVersion f")
+    public NewsFeedVersionView findFeedVersion();
+}
@@ -1,30 +1,149 @@
 package com.example.NewsAPI.domain.repositories;
 
+import com.example.NewsAPI.domain.news.DeletedNewsView;
 import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.news.NewsSearchResponseDTO;
+import com.example.NewsAPI.domain.news.NewsSearchView;
+import com.example.NewsAPI.domain.news.PatchedNewsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface NewsRepository extends JpaRepository<News, UUID> {
-    @Query("SELECT n FROM News n " +
+    @Query("SELECT new com.example.NewsAPI.domain.news.NewsRevision(" +
+            "n.id, n.title, n.body, n.publishedAt, w.username, n.version, n.updatedAt) " +
+            "FROM News n " +
+            "JOIN n.writer w " +
+            "WHERE n.id = :id")
+    public Optional<NewsRevision> findNewsById(UUID id);
+
+    @Transactional
+    @Query(value = "UPDATE news n SET " +
+            "title = COALESCE(CAST(:title AS VARCHAR), n.title), " +
+            "body = COALESCE(CAST(:body AS TEXT), n.body), " +
+            "updated_at = :updatedAt, " +
+            "version = n.version + 1 " +
+            "WHERE n.id = :id AND n.writer_id = :writerId AND " +
+            "(CAST(:expectedVersion AS BIGINT) IS NULL OR n.version = CAST(:expectedVersion AS BIGINT)) " +
+            "RETURNING n.id AS id, n.title AS title, n.body AS body, n.published_at AS publishedAt, " +
+            "n.version AS version, n.updated_at AS updatedAt",
+            nativeQuery = true)
+    public Optional<PatchedNewsView> patchNewsReturning(UUID id, UUID writerId, String title, String body, Date updatedAt, Long expectedVersion);
+
+    @Transactional
+    @Query(value = "DELETE FROM news n WHERE n.id = :id AND n.writer_id = :writerId AND " +
+            "(CAST(:expectedVersion AS BIGINT) IS NULL OR n.version = CAST(:expectedVersion AS BIGINT)) " +
+            "RETURNING n.id AS id, n.title AS title, n.body AS body, n.published_at AS publishedAt",
+            nativeQuery = true)
+    public Optional<DeletedNewsView> deleteNewsReturning(UUID id, UUID writerId, Long expectedVersion);
+
+    @Query("SELECT new com.example.NewsAPI.domain.news.NewsGetResponseDTO(" +
+            "n.id, n.title, CASE WHEN :includeBody = true THEN n.body ELSE NULL END, n.publishedAt, w.username) " +
+            "FROM News n " +
+            "JOIN n.writer w " +
+            "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
+            "(:writer IS NULL OR w.username = :writer) AND " +
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate)" +
+            "ORDER BY n.publishedAt DESC"
+    )
+    public List<NewsGetResponseDTO> findNews(String title, String writer, Date startDate, Date endDate, boolean includeBody);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.NewsAPI.domain.news.NewsGetResponseDTO(" +
+            "n.id, n.title, CASE WHEN :includeBody = true THEN n.body ELSE NULL END, n.publishedAt, w.username) " +
+            "FROM News n " +
             "JOIN n.writer w " +
             "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
             "(:writer IS NULL OR w.username = :writer) AND " +
-            "(n.publishedAt >= :startDate AND n.publishedAt < :endDate)" +
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate)" +
             "ORDER BY n.publishedAt DESC"
     )
-    public List<News> findNews(String title, String writer, Date startDate, Date endDate);
+    public Stream<NewsGetResponseDTO> streamNews(String title, String writer, Date startDate, Date endDate, boolean includeBody);
 
-    @Query("SELECT n FROM News n " +
+    @Query(value = "SELECT new com.example.NewsAPI.domain.news.NewsGetResponseDTO(" +
+            "n.id, n.title, CASE WHEN :includeBody = true THEN n.body ELSE NULL END, n.publishedAt, w.username) " +
+            "FROM News n " +
             "JOIN n.writer w " +
             "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
             "(:writer IS NULL OR w.username = :writer) AND " +
-            "(n.publishedAt >= :startDate AND n.publishedAt < :endDate)" +
-            "ORDER BY n.publishedAt DESC")
-    public Page<News> findNews(String title, String writer,Date startDate, Date endDate,Pageable pageable);
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate)" +
+            "ORDER BY n.publishedAt DESC",
+            countQuery = "SELECT count(n) FROM News n " +
+            "JOIN n.writer w " +
+            "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
+            "(:writer IS NULL OR w.username = :writer) AND " +
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate)")
+    public Page<NewsGetResponseDTO> findNews(String title, String writer,Date startDate, Date endDate, boolean includeBody, Pageable pageable);
+
+    @Query("SELECT new com.example.NewsAPI.domain.news.NewsGetResponseDTO(" +
+            "n.id, n.title, CASE WHEN :includeBody = true THEN n.body ELSE NULL END, n.publishedAt, w.username) " +
+            "FROM News n " +
+            "JOIN n.writer w " +
+            "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
+            "(:writer IS NULL OR w.username = :writer) AND " +
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate) " +
+            "ORDER BY n.publishedAt DESC, n.id DESC")
+    public List<NewsGetResponseDTO> findFirstNews(String title, String writer, Date startDate, Date endDate, boolean includeBody, Limit limit);
+
+    @Query("SELECT new com.example.NewsAPI.domain.news.NewsGetResponseDTO(" +
+            "n.id, n.title, CASE WHEN :includeBody = true THEN n.body ELSE NULL END, n.publishedAt, w.username) " +
+            "FROM News n " +
+            "JOIN n.writer w " +
+            "WHERE (:title IS NULL OR n.title LIKE %:title%) AND " +
+            "(:writer IS NULL OR w.username = :writer) AND " +
+            "(CAST(:startDate AS Timestamp) IS NULL OR n.publishedAt >= :startDate) AND " +
+            "(CAST(:endDate AS Timestamp) IS NULL OR n.publishedAt < :endDate) AND " +
+            "(n.publishedAt, n.id) < (:cursorPublishedAt, :cursorId) " +
+            "ORDER BY n.publishedAt DESC, n.id DESC")
+    public List<NewsGetResponseDTO> findNewsAfter(String title, String writer, Date startDate, Date endDate, Date cursorPublishedAt, UUID cursorId, boolean includeBody, Limit limit);
+
+    @Query(value = "SELECT n.id AS id, n.title AS title, " +
+            "ts_headline('simple', n.title, websearch_to_tsquery('simple', :query), 'HighlightAll=true, StartSel=" + NewsSearchResponseDTO.HIGHLIGHT_START + ", StopSel=" + NewsSearchResponseDTO.HIGHLIGHT_STOP + "') AS highlightedTitle, " +
+            "ts_headline('simple', n.body, websearch_to_tsquery('simple', :query), 'MaxFragments=2, MaxWords=35, MinWords=15, StartSel=" + NewsSearchResponseDTO.HIGHLIGHT_START + ", StopSel=" + NewsSearchResponseDTO.HIGHLIGHT_STOP + "') AS snippet, " +
+            "n.published_at AS publishedAt, u.username AS writer " +
+            "FROM (" +
+            "SELECT c.id, ts_rank(c.search_vector, websearch_to_tsquery('simple', :query)) AS rank, c.published_at " +
+            "FROM (" +
+            "SELECT n.id, n.search_vector, n.published_at " +
+            "FROM news n " +
+            "WHERE n.search_vector @@ websearch_to_tsquery('simple', :query) " +
+            "ORDER BY n.published_at DESC, n.id DESC " +
+            "LIMIT :candidates" +
+            ") c " +
+            "ORDER BY rank DESC, c.published_at DESC, c.id DESC " +
+            "LIMIT :limit OFFSET :offset" +
+            ") r " +
+            "JOIN news n ON n.id = r.id " +
+            "JOIN users u ON u.id = n.writer_id " +
+            "ORDER BY r.rank DESC, r.published_at DESC, r.id DESC",
+            nativeQuery = true)
+    public List<NewsSearchView> searchNews(String query, int candidates, int limit, long offset);
+
+    @Query(value = "SELECT count(*) FROM (" +
+            "SELECT 1 FROM news n WHERE n.search_vector @@ websearch_to_tsquery('simple', :query) LIMIT :candidates" +
+            ") c",
+            nativeQuery = true)
+    public long countSearchNews(String query, int candidates);
 }
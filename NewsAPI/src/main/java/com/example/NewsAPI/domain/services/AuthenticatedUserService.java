@@ -0,0 +1,19 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.exception.AuthenticatedUserNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthenticatedUserService {
+
+    public User getAuthenticatedUser(){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)){
+            throw new AuthenticatedUserNotFoundException("No authenticated user found in the security context");
+        }
+        return user;
+    }
+}
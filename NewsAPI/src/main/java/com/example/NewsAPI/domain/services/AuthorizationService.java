@@ -1,17 +1,22 @@
 package com.example.NewsAPI.domain.services;
 
 import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.user.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class AuthorizationService implements UserDetailsService {
+public class AuthorizationService implements UserDetailsService, UserDetailsPasswordService {
     @Autowired
     UserRepository repository;
 
+    @Autowired
+    UserCacheService userCacheService;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UserDetails userDetails = repository.findByUsername(username);
@@ -22,4 +27,15 @@ public class AuthorizationService implements UserDetailsService {
 
         return userDetails;
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = repository.findUserByUsername(userDetails.getUsername());
+        user.setPassword(newPassword);
+
+        User savedUser = repository.save(user);
+        userCacheService.evict(savedUser.getUsername());
+
+        return savedUser;
+    }
 }
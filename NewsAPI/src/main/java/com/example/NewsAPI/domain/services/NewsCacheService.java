@@ -0,0 +1,106 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Service
+public class NewsCacheService {
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${cache.news.max-weight:64MB}")
+    DataSize maxWeight;
+
+    @Value("${cache.news.ttl:10m}")
+    Duration ttl;
+
+    Cache<UUID, NewsRevision> cache;
+
+    @PostConstruct
+    void init(){
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((UUID id, NewsRevision revision) -> weigh(revision.news()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "news");
+        Gauge.builder("cache.weight", cache, NewsCacheService::weightedSize)
+                .tag("cache", "news")
+                .description("Estimated memory footprint of the cached news, in bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public NewsRevision findById(UUID newsId){
+        return cache.get(newsId, id -> newsRepository.findNewsById(id).orElse(null));
+    }
+
+    // Writes made inside a transaction reach the cache only after it commits. Earlier, a
+    // concurrent read could cache the row being replaced until the TTL, and a rollback would
+    // leave the uncommitted revision behind. Caffeine serializes these with an in-flight load
+    // of the same id, and the merge keeps the newest version when two commits race.
+    public void put(NewsRevision revision){
+        afterCommit(() -> cache.asMap().merge(revision.news().id(), revision, NewsCacheService::newer));
+    }
+
+    public void evict(UUID newsId){
+        afterCommit(() -> cache.invalidate(newsId));
+    }
+
+    private static void afterCommit(Runnable action){
+        if (!TransactionSynchronizationManager.isSynchronizationActive()){
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static NewsRevision newer(NewsRevision cached, NewsRevision written){
+        if (cached.version() == null || written.version() == null){
+            return written;
+        }
+        return written.version() >= cached.version() ? written : cached;
+    }
+
+    private static int weigh(NewsGetResponseDTO news){
+        long chars = length(news.title()) + length(news.body()) + length(news.writer());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + 2 * chars);
+    }
+
+    private static long length(String value){
+        return value == null ? 0 : value.length();
+    }
+
+    private static double weightedSize(Cache<UUID, NewsRevision> cache){
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
@@ -2,32 +2,56 @@ package com.example.NewsAPI.domain.services;
 
 import com.example.NewsAPI.domain.news.*;
 import com.example.NewsAPI.domain.repositories.NewsRepository;
-import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.exception.BelongsToAnotherWriterException;
+import com.example.NewsAPI.exception.InvalidBatchException;
+import com.example.NewsAPI.exception.InvalidDateRangeException;
+import com.example.NewsAPI.exception.InvalidNewsUpdateException;
+import com.example.NewsAPI.exception.InvalidSearchQueryException;
 import com.example.NewsAPI.exception.NewsNotFoundException;
+import com.example.NewsAPI.exception.NewsVersionMismatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class NewsService {
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // Caps a keyset page like a search page, which also keeps the look-ahead row (limit + 1) in range.
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Search ranks and counts only the newest matches, so a common term costs the same as a
+    // rare one instead of running ts_rank over every matching row.
+    static final int MAX_SEARCH_CANDIDATES = 1000;
+    private static final Instant EARLIEST_FILTER_INSTANT = Instant.parse("0001-01-01T00:00:00Z");
+    private static final Instant LATEST_FILTER_INSTANT = Instant.parse("9999-12-31T23:59:59Z");
+
     @Autowired
     NewsRepository newsRepository;
 
     @Autowired
-    TokenService tokenService;
+    NewsCacheService newsCacheService;
 
     @Autowired
-    UserRepository userRepository;
+    AuthenticatedUserService authenticatedUserService;
 
     @Autowired
     TemporalService temporalService;
@@ -35,107 +59,291 @@ public class NewsService {
     @Autowired
     Clock clock;
 
+    @Autowired
+    Validator validator;
+
+    @Value("${news.batch.max-size:1000}")
+    int maxBatchSize;
+
     public News create(NewsRequestDTO data){
+        return create(data, authenticatedUserService.getAuthenticatedUser());
+    }
+
+    public News create(NewsRequestDTO data, User writer){
         News news = new News();
 
         news.setTitle(data.title());
         news.setBody(data.body());
 
-        news.setPublishedAt(Date.from(clock.instant()));
-
-        String token = tokenService.recoverToken();
-        String writerUsername = tokenService.validateTokenAndGetUsername(token);
-        UserDetails writer = userRepository.findByUsername(writerUsername);
+        Date now = Date.from(clock.instant());
+        news.setPublishedAt(now);
+        news.setUpdatedAt(now);
 
-        news.setWriter((User) writer);
+        news.setWriter(writer);
 
         return newsRepository.save(news);
     }
 
-    public List<NewsGetResponseDTO> get(String title,String writer,String publicationDate){
-        Date startDate;
-        Date endDate;
+    @Transactional
+    public NewsBatchResponseDTO createBatch(List<NewsRequestDTO> data){
+        return createBatch(data, authenticatedUserService.getAuthenticatedUser());
+    }
 
-        startDate = temporalService.definesStartDate(publicationDate);
-        endDate = temporalService.definesEndDate(publicationDate,startDate);
+    @Transactional
+    public NewsBatchResponseDTO createBatch(List<NewsRequestDTO> data, User writer){
+        if (data == null || data.isEmpty() || data.size() > maxBatchSize){
+            throw new InvalidBatchException("The batch must contain between 1 and " + maxBatchSize + " news");
+        }
 
+        List<NewsBatchItemResultDTO> results = new ArrayList<>(data.size());
+        List<News> newsToSave = new ArrayList<>(data.size());
+        List<Integer> newsIndexes = new ArrayList<>(data.size());
+
+        for (int index = 0; index < data.size(); index++){
+            NewsRequestDTO item = data.get(index);
+            Map<String, String> errors = validate(item);
+            if (!errors.isEmpty()){
+                results.add(NewsBatchItemResultDTO.rejected(index, errors));
+                continue;
+            }
+
+            News news = new News();
+            news.setTitle(item.title());
+            news.setBody(item.body());
+            Date now = Date.from(clock.instant());
+            news.setPublishedAt(now);
+            news.setUpdatedAt(now);
+            news.setWriter(writer);
+
+            newsToSave.add(news);
+            newsIndexes.add(index);
+            results.add(null);
+        }
+
+        List<News> savedNews = newsRepository.saveAll(newsToSave);
+        for (int i = 0; i < savedNews.size(); i++){
+            int index = newsIndexes.get(i);
+            results.set(index, NewsBatchItemResultDTO.created(index, savedNews.get(i).getId()));
+        }
 
-        List<News> newsList = newsRepository.findNews(title,writer,startDate,endDate);
+        int rejected = data.size() - savedNews.size();
+        return new NewsBatchResponseDTO("News batch processed", savedNews.size(), rejected, results);
+    }
 
-        return newsList.stream().map(news -> new NewsGetResponseDTO(
-                                                        news.getId(),
-                                                        news.getTitle(),
-                                                        news.getBody(),
-                                                        news.getPublishedAt(),
-                                                        news.getWriter().getUsername())
-                                                    ).toList();
+    public List<NewsGetResponseDTO> get(NewsFilter filter,boolean includeBody){
+        DateWindow window = definesWindow(filter);
 
+        return newsRepository.findNews(filter.title(),filter.writer(),window.startDate(),window.endDate(),includeBody);
     }
 
-    public NewsGetResponseListDTO getNewsPaged(String title, String writer, String publicationDate, int page, int pageSize){
-        Date startDate;
-        Date endDate;
+    @Transactional(readOnly = true)
+    public void forEachNews(NewsFilter filter, boolean includeBody, Consumer<NewsGetResponseDTO> action){
+        DateWindow window = definesWindow(filter);
 
-        startDate = temporalService.definesStartDate(publicationDate);
-        endDate = temporalService.definesEndDate(publicationDate,startDate);
+        try (Stream<NewsGetResponseDTO> newsStream = newsRepository.streamNews(filter.title(),filter.writer(),window.startDate(),window.endDate(),includeBody)) {
+            newsStream.forEach(action);
+        }
+    }
+
+    public NewsGetResponseListDTO getNewsPaged(NewsFilter filter, int page, int pageSize, boolean includeBody){
+        DateWindow window = definesWindow(filter);
 
         Pageable pageable = PageRequest.of(page,pageSize);
-        Page<News> newsPage = newsRepository.findNews(title,writer,startDate,endDate,pageable);
-        List<NewsGetResponseDTO> newsListResponse = newsPage.map(news -> new NewsGetResponseDTO(
-                                                        news.getId(),
-                                                        news.getTitle(),
-                                                        news.getBody(),
-                                                        news.getPublishedAt(),
-                                                        news.getWriter().getUsername())
-                                                    ).stream().toList();
+        Page<NewsGetResponseDTO> newsPage = newsRepository.findNews(filter.title(),filter.writer(),window.startDate(),window.endDate(),includeBody,pageable);
+
+        return new NewsGetResponseListDTO("News returned successfully",newsPage.getTotalElements(),newsPage.getTotalPages(),newsPage.getContent());
+    }
+
+    public NewsGetResponseListDTO getNewsByCursor(NewsFilter filter, String cursor, int pageSize, boolean includeBody){
+        DateWindow window = definesWindow(filter);
+
+        NewsCursor after = NewsCursor.decode(cursor);
+
+        int limit = Math.min(Math.max(pageSize,1),MAX_CURSOR_PAGE_SIZE);
+
+        List<NewsGetResponseDTO> newsList = after == null
+                ? newsRepository.findFirstNews(filter.title(),filter.writer(),window.startDate(),window.endDate(),includeBody,Limit.of(limit + 1))
+                : newsRepository.findNewsAfter(filter.title(),filter.writer(),window.startDate(),window.endDate(),after.publishedAt(),after.id(),includeBody,Limit.of(limit + 1));
 
-        return new NewsGetResponseListDTO("News returned successfully",newsPage.getTotalElements(),newsPage.getTotalPages(),newsListResponse);
+        boolean hasNext = newsList.size() > limit;
+        List<NewsGetResponseDTO> pageContent = hasNext ? newsList.subList(0,limit) : newsList;
+        String nextCursor = hasNext ? NewsCursor.from(pageContent.get(limit - 1)).encode() : null;
+
+        return NewsGetResponseListDTO.cursorPage("News returned successfully",pageContent,nextCursor);
     }
 
+    public NewsSearchResponseListDTO search(String query, int page, int pageSize){
+        if (query == null || query.isBlank()){
+            throw new InvalidSearchQueryException("Search query must not be blank");
+        }
+
+        int limit = Math.min(Math.max(pageSize,1),MAX_SEARCH_PAGE_SIZE);
+        long offset = (long) Math.max(page,0) * limit;
 
+        List<NewsSearchResponseDTO> newsList = newsRepository.searchNews(query,MAX_SEARCH_CANDIDATES,limit,offset)
+                .stream()
+                .map(NewsSearchResponseDTO::from)
+                .toList();
+        long newsFound = newsRepository.countSearchNews(query,MAX_SEARCH_CANDIDATES);
+        int pagesFound = (int) ((newsFound + limit - 1) / limit);
 
-    public News getOne(UUID newsID){
+        return new NewsSearchResponseListDTO("News returned successfully",newsFound,pagesFound,newsList);
+    }
+
+
+    public NewsRevision getOne(UUID newsID){
+        NewsRevision revision = newsCacheService.findById(newsID);
+        if (revision == null){
+            throw new NewsNotFoundException("News Not Found");
+        }
+        return revision;
+    }
+
+    private News findOne(UUID newsID){
         return newsRepository.findById(newsID)
                 .orElseThrow(() -> new NewsNotFoundException("News Not Found"));
     }
 
-    public News update(UUID newsID, NewsRequestDTO data){
-        News oldNews = getOne(newsID);
+    @Transactional
+    public News update(UUID newsID, NewsRequestDTO data, Long expectedVersion){
+        return update(newsID, data, expectedVersion, authenticatedUserService.getAuthenticatedUser());
+    }
 
-        String token = tokenService.recoverToken();
-        String loggedUsername = tokenService.validateTokenAndGetUsername(token);
+    @Transactional
+    public News update(UUID newsID, NewsRequestDTO data, Long expectedVersion, User writer){
+        News news = findOne(newsID);
 
-        if (!loggedUsername.equals(oldNews.getWriter().getUsername())){
+        if (!writer.getUsername().equals(news.getWriter().getUsername())){
             throw new BelongsToAnotherWriterException("You are not authorized to update this news because it belongs to another user.");
         }
+        if (expectedVersion != null && !expectedVersion.equals(news.getVersion())){
+            throw new NewsVersionMismatchException("The news was modified since the version sent in If-Match");
+        }
 
-        News updatedNews = new News(
-            oldNews.getId(),
-            data.title() != null ? data.title() : oldNews.getTitle(),
-            data.body() != null ? data.body() : oldNews.getBody(),
-            oldNews.getPublishedAt(),
-            oldNews.getWriter()
-        );
+        if (data.title() != null){
+            news.setTitle(data.title());
+        }
+        if (data.body() != null){
+            news.setBody(data.body());
+        }
+        news.setUpdatedAt(Date.from(clock.instant()));
+
+        News savedNews = newsRepository.saveAndFlush(news);
+        newsCacheService.put(NewsRevision.from(savedNews));
 
-        return newsRepository.save(updatedNews);
+        return savedNews;
     }
 
-    public News delete(UUID newsID){
-        News news = getOne(newsID);
+    @Transactional
+    public NewsGetResponseDTO patch(UUID newsID, NewsRequestDTO data, Long expectedVersion){
+        return patch(newsID, data, expectedVersion, authenticatedUserService.getAuthenticatedUser());
+    }
 
-        String token = tokenService.recoverToken();
-        String loggedUsername = tokenService.validateTokenAndGetUsername(token);
+    @Transactional
+    public NewsGetResponseDTO patch(UUID newsID, NewsRequestDTO data, Long expectedVersion, User writer){
+        if (data.title() == null && data.body() == null){
+            throw new InvalidNewsUpdateException("At least one of title or body must be sent");
+        }
+        if (data.title() != null && data.title().isBlank()){
+            throw new InvalidNewsUpdateException("The news title must not be blank");
+        }
+        if (data.body() != null && data.body().isBlank()){
+            throw new InvalidNewsUpdateException("The news body must not be blank");
+        }
+
+        NewsRevision patchedNews = newsRepository.patchNewsReturning(newsID, writer.getId(), data.title(), data.body(), Date.from(clock.instant()), expectedVersion)
+                .map(news -> NewsRevision.from(news, writer.getUsername()))
+                .orElseThrow(() -> rejection(newsID, writer, "You are not authorized to update this news because it belongs to another user."));
+        newsCacheService.put(patchedNews);
+
+        return patchedNews.news();
+    }
 
-        if (!loggedUsername.equals(news.getWriter().getUsername())){
-            throw new BelongsToAnotherWriterException("You are not authorized to delete this news because it belongs to another user.");
+    @Transactional
+    public NewsGetResponseDTO delete(UUID newsID, Long expectedVersion){
+        return delete(newsID, expectedVersion, authenticatedUserService.getAuthenticatedUser());
+    }
+
+    @Transactional
+    public NewsGetResponseDTO delete(UUID newsID, Long expectedVersion, User writer){
+        NewsGetResponseDTO deletedNews = newsRepository.deleteNewsReturning(newsID, writer.getId(), expectedVersion)
+                .map(news -> NewsGetResponseDTO.from(news, writer.getUsername()))
+                .orElseThrow(() -> rejection(newsID, writer, "You are not authorized to delete this news because it belongs to another user."));
+
+        newsCacheService.evict(newsID);
+
+        return deletedNews;
+    }
+
+    private RuntimeException rejection(UUID newsID, User writer, String notOwnedMessage){
+        return newsRepository.findById(newsID)
+                .<RuntimeException>map(news -> writer.getUsername().equals(news.getWriter().getUsername())
+                        ? new NewsVersionMismatchException("The news was modified since the version sent in If-Match")
+                        : new BelongsToAnotherWriterException(notOwnedMessage))
+                .orElseGet(() -> new NewsNotFoundException("News Not Found"));
+    }
+
+    private Map<String, String> validate(NewsRequestDTO item){
+        if (item == null){
+            return Map.of("news", "The news must not be null");
+        }
+        return validator.validate(item)
+                .stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage,
+                        (first, second) -> first
+                ));
+    }
+
+    private DateWindow definesWindow(NewsFilter filter){
+        if (filter.since() != null && filter.since().isNegative()){
+            throw new InvalidDateRangeException("The since window must not be negative");
+        }
+        if (!isSupported(filter.from()) || !isSupported(filter.to())){
+            throw new InvalidDateRangeException("The from and to instants must be between " + EARLIEST_FILTER_INSTANT + " and " + LATEST_FILTER_INSTANT);
+        }
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())){
+            throw new InvalidDateRangeException("The from instant must be before the to instant");
+        }
+
+        Date startDate = temporalService.definesStartDate(filter.publicationDate());
+        Date endDate = temporalService.definesEndDate(filter.publicationDate(),startDate);
+
+        startDate = latest(startDate,filter.from());
+        if (filter.since() != null){
+            startDate = latest(startDate,sinceStart(filter.since()));
         }
+        endDate = earliest(endDate,filter.to());
 
-        newsRepository.delete(news);
+        return new DateWindow(startDate,endDate);
+    }
 
-        return news;
+    private Instant sinceStart(Duration since){
+        Instant now = clock.instant();
+        if (since.compareTo(Duration.between(EARLIEST_FILTER_INSTANT,now)) >= 0){
+            return EARLIEST_FILTER_INSTANT;
+        }
+        return now.minus(since);
     }
 
+    private static boolean isSupported(Instant instant){
+        return instant == null || (!instant.isBefore(EARLIEST_FILTER_INSTANT) && !instant.isAfter(LATEST_FILTER_INSTANT));
+    }
 
+    private static Date latest(Date date, Instant instant){
+        if (instant == null){
+            return date;
+        }
+        return date == null || date.toInstant().isBefore(instant) ? Date.from(instant) : date;
+    }
 
+    private static Date earliest(Date date, Instant instant){
+        if (instant == null){
+            return date;
+        }
+        return date == null || date.toInstant().isAfter(instant) ? Date.from(instant) : date;
+    }
 
+    private record DateWindow(Date startDate, Date endDate) { }
 }
@@ -0,0 +1,56 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.news.NewsVersion;
+import com.example.NewsAPI.domain.repositories.NewsFeedVersionRepository;
+import com.example.NewsAPI.exception.NewsVersionMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// The ETags are weak: Tomcat skips compression for any response carrying a strong ETag, and
+// the gzipped and identity bodies of the same revision are equivalent rather than byte-identical.
+@Service
+public class NewsVersionService {
+    static final String WEAK_PREFIX = "W/";
+
+    @Autowired
+    NewsFeedVersionRepository newsFeedVersionRepository;
+
+    public Optional<NewsVersion> getFeedVersion(){
+        return Optional.ofNullable(newsFeedVersionRepository.findFeedVersion())
+                .filter(feed -> feed.getVersion() != null)
+                .map(feed -> new NewsVersion(WEAK_PREFIX + "\"feed-" + feed.getVersion() + "\"", feed.getUpdatedAt()));
+    }
+
+    public NewsVersion getNewsVersion(NewsRevision revision){
+        return new NewsVersion(eTag(revision.news().id(),revision.version()), revision.updatedAt().toInstant());
+    }
+
+    public Optional<Long> expectedVersion(UUID newsId, String ifMatch){
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")){
+            return Optional.empty();
+        }
+
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith(WEAK_PREFIX)){
+            eTag = eTag.substring(WEAK_PREFIX.length());
+        }
+        String prefix = "\"" + newsId + "-";
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1){
+            throw new NewsVersionMismatchException("The If-Match header does not match the current version of the news");
+        }
+
+        try {
+            return Optional.of(Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1)));
+        } catch (NumberFormatException exception){
+            throw new NewsVersionMismatchException("The If-Match header does not match the current version of the news");
+        }
+    }
+
+    private static String eTag(UUID newsId, long version){
+        return WEAK_PREFIX + "\"" + newsId + "-" + version + "\"";
+    }
+}
@@ -4,56 +4,49 @@ import com.example.NewsAPI.exception.DateConvertException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.text.SimpleDateFormat;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoUnit;
-import java.util.Calendar;
 import java.util.Date;
 
 @Service
 public class TemporalService {
+    private static final DateTimeFormatter PUBLICATION_DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("d/M/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
 
     @Autowired
     Clock clock;
 
     public Date definesStartDate(String publicationDate){
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        if (publicationDate == null) {
+            return null;
+        }
         try {
-            Date startDate;
-            if (publicationDate == null) {
-                startDate = simpleDateFormat.parse("01/01/0001");
-            }else {
-                startDate = simpleDateFormat.parse(publicationDate);
-            }
-            return startDate;
-        }catch (Exception e){
+            LocalDate startDate = LocalDate.parse(publicationDate, PUBLICATION_DATE_FORMATTER);
+            return Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }catch (DateTimeParseException e){
             throw new DateConvertException(e.getMessage());
         }
     }
 
     public Date definesEndDate(String publicationDate, Date startDate) {
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-        try {
-            Date endDate;
-            if (publicationDate == null) {
-                endDate = simpleDateFormat.parse("31/12/9999");
-            } else {
-                endDate = addOneDayToDate(startDate);
-            }
-            return endDate;
-        } catch (Exception e) {
-            throw new RuntimeException(e.getMessage());
+        if (publicationDate == null) {
+            return null;
+        }
+        if (startDate == null) {
+            throw new IllegalArgumentException("The start date must be defined when a publication date is sent");
         }
+        return addOneDayToDate(startDate);
     }
 
     public Date addOneDayToDate(Date date){
-
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.add(Calendar.DATE,1);
-
-        return calendar.getTime();
+        return Date.from(date.toInstant().atZone(ZoneId.systemDefault()).plusDays(1).toInstant());
     }
 
     public Instant plusHoursFromNow(int hours){
@@ -1,10 +1,19 @@
 package com.example.NewsAPI.domain.services;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.NewsAPI.domain.infra.security.AuthStepTimer;
 import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.exception.RetrievingHttpTokenException;
 import com.example.NewsAPI.exception.TokenGenerationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,21 +21,50 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Objects;
 
 @Service
 public class TokenService {
+    private static final String ISSUER = "news-api";
+    private static final long VERIFIED_TOKENS_MAX_SIZE = 10_000;
+
     @Value("${token.secret}")
     private String secret;
 
     @Autowired
     TemporalService temporalService;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private Cache<String, VerifiedToken> verifiedTokens;
+    private Timer verifyTimer;
+
+    @PostConstruct
+    void init(){
+        algorithm = Algorithm.HMAC256(secret);
+        verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKENS_MAX_SIZE)
+                .expireAfter(new UntilTokenExpires())
+                .build();
+        verifyTimer = AuthStepTimer.register(meterRegistry, "token.verify");
+    }
+
     public String generateToken(User user){
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return  JWT.create()
-                    .withIssuer("news-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getUsername())
                     .withExpiresAt(temporalService.plusHoursFromNow(5))
                     .sign(algorithm);
@@ -36,13 +74,22 @@ public class TokenService {
     }
 
     public String validateTokenAndGetUsername(String token){
+        return verifyTimer.record(() -> verify(token));
+    }
+
+    private String verify(String token){
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("news-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            String tokenDigest = digest(token);
+            VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenDigest);
+            if (verifiedToken != null){
+                return verifiedToken.username();
+            }
+
+            DecodedJWT decodedJWT = verifier.verify(token);
+            if (decodedJWT.getExpiresAtAsInstant() != null){
+                verifiedTokens.put(tokenDigest, new VerifiedToken(decodedJWT.getSubject(), decodedJWT.getExpiresAtAsInstant()));
+            }
+            return decodedJWT.getSubject();
         }catch (Exception exception){
             return "";
         }
@@ -67,4 +114,28 @@ public class TokenService {
             throw new RetrievingHttpTokenException("Error retrieving HttpServletRequest");
         }
     }
+
+    private String digest(String token) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private record VerifiedToken(String username, Instant expiresAt) { }
+
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
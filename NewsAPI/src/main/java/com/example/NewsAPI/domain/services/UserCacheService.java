@@ -0,0 +1,55 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.infra.security.AuthStepTimer;
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+public class UserCacheService {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${cache.principal.max-size:10000}")
+    long maxSize;
+
+    @Value("${cache.principal.ttl:5m}")
+    Duration ttl;
+
+    Cache<String, UserDetails> cache;
+
+    Timer lookupTimer;
+
+    @PostConstruct
+    void init(){
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+        lookupTimer = AuthStepTimer.register(meterRegistry, "user.lookup");
+    }
+
+    public UserDetails findByUsername(String username){
+        return lookupTimer.record(() -> cache.get(username, userRepository::findByUsername));
+    }
+
+    public void evict(String username){
+        cache.invalidate(username);
+    }
+}
@@ -4,14 +4,18 @@ import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.user.*;
 import com.example.NewsAPI.exception.IncorrectLoginCredentialsException;
 import com.example.NewsAPI.exception.UserAlreadyRegisteredException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+
 @Service
 public class UserService {
 
@@ -25,17 +29,40 @@ public class UserService {
     TokenService tokenService;
 
     @Autowired
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    UserCacheService userCacheService;
 
     public void create(RegisterRequestDTO data){
         if(repository.findByUsername(data.username())!=null){
             throw new UserAlreadyRegisteredException("This username is already registered");
         }
 
-        String encryptedPassword = bCryptPasswordEncoder.encode(data.password());
+        String encryptedPassword = passwordEncoder.encode(data.password());
 
         User newUser = new User(data.username(), encryptedPassword, data.role());
-        repository.save(newUser);
+        try {
+            repository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            if (!violatesUsernameIndex(e)) {
+                throw e;
+            }
+            throw new UserAlreadyRegisteredException("This username is already registered");
+        }
+        userCacheService.evict(newUser.getUsername());
+    }
+
+    // Only the username unique index means a concurrent registration won the race; any other
+    // integrity violation is a real error. H2 reports the index as "PUBLIC.UX_USERS_USERNAME_INDEX_4",
+    // PostgreSQL as "ux_users_username", hence the case-insensitive containment check.
+    private static boolean violatesUsernameIndex(DataIntegrityViolationException e){
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.USERNAME_UNIQUE_INDEX);
+            }
+        }
+        return false;
     }
 
     public LoginResponseDTO login(LoginRequestDTO data){
@@ -1,8 +1,9 @@
 package com.example.NewsAPI.domain.user;
 
+import com.example.NewsAPI.domain.infra.persistence.UuidV7;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,13 +17,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = User.USERNAME_UNIQUE_INDEX, columnList = "username", unique = true))
 @Entity
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class User implements UserDetails {
+    public static final String USERNAME_UNIQUE_INDEX = "ux_users_username";
 
     public User(String username, String password, UserRole role) {
         this.username = username;
@@ -30,7 +32,7 @@ public class User implements UserDetails {
         this.role = role;
     }
 
-    @GeneratedValue
+    @UuidV7
     @Id
     UUID id;
     String username;
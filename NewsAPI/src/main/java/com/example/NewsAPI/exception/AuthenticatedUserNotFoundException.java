@@ -0,0 +1,7 @@
+package com.example.NewsAPI.exception;
+
+public class AuthenticatedUserNotFoundException extends RuntimeException {
+    public AuthenticatedUserNotFoundException(String message) {
+        super(message);
+    }
+}
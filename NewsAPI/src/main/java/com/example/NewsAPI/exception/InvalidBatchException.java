@@ -0,0 +1,7 @@
+package com.example.NewsAPI.exception;
+
+public class InvalidBatchException extends RuntimeException {
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.NewsAPI.exception;
+
+public class InvalidNewsUpdateException extends RuntimeException {
+    public InvalidNewsUpdateException(String message) {
+        super(message);
+    }
+}
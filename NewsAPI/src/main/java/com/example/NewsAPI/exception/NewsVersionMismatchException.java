@@ -0,0 +1,7 @@
+package com.example.NewsAPI.exception;
+
+public class NewsVersionMismatchException extends RuntimeException {
+    public NewsVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.NewsAPI.exception;
+
+public class PasswordHashingSaturatedException extends RuntimeException {
+    public PasswordHashingSaturatedException(String message) {
+        super(message);
+    }
+}
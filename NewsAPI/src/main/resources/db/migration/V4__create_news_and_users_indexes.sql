@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE UNIQUE INDEX ux_users_username ON users (username);
+
+CREATE INDEX ix_news_published_at_id ON news (published_at DESC, id DESC);
+CREATE INDEX ix_news_writer_id_published_at ON news (writer_id, published_at DESC);
+CREATE INDEX ix_news_title_trgm ON news USING GIN (title gin_trgm_ops);
@@ -0,0 +1,6 @@
+ALTER TABLE news ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(body, '')), 'B')
+) STORED;
+
+CREATE INDEX ix_news_search_vector ON news USING GIN (search_vector);
@@ -0,0 +1,22 @@
+ALTER TABLE news ADD COLUMN updated_at TIMESTAMP;
+UPDATE news SET updated_at = published_at;
+ALTER TABLE news ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE TABLE news_feed_version(
+    id SMALLINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO news_feed_version (id, version, updated_at) VALUES (1, 0, clock_timestamp());
+
+CREATE FUNCTION bump_news_feed_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE news_feed_version SET version = version + 1, updated_at = clock_timestamp() WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER news_feed_version_bump
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON news
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_news_feed_version();
@@ -0,0 +1 @@
+ALTER TABLE news ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- A single counter row made every writer wait on the same row lock until commit.
+-- Each backend now bumps one of 16 shards, so concurrent writers rarely share a row;
+-- readers sum the shards for the feed version and take the latest shard timestamp.
+INSERT INTO news_feed_version (id, version, updated_at)
+SELECT shard, 0, feed.updated_at
+FROM generate_series(2, 16) AS shard, news_feed_version feed
+WHERE feed.id = 1;
+
+CREATE OR REPLACE FUNCTION bump_news_feed_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE news_feed_version SET version = version + 1, updated_at = clock_timestamp()
+    WHERE id = 1 + pg_backend_pid() % 16;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,134 @@
+package com.example.NewsAPI.controllers;
+
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "server.compression.min-response-size=256B")
+@ActiveProfiles("test")
+class NewsControllerCompressionTest {
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TokenService tokenService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    HttpClient httpClient = HttpClient.newHttpClient();
+
+    String token;
+
+    List<News> newsList;
+
+    @BeforeEach
+    void setUp(){
+        User writer = userRepository.saveAndFlush(UserTestFactory.buildOne("CompressionWriter"));
+        token = tokenService.generateToken(writer);
+
+        List<News> seeded = new ArrayList<>();
+        for (int i = 0; i < 20; i++){
+            News news = NewsTestFactory.buildOneWithoutId("CompressionNews" + i,writer,Date.from(Instant.parse("2025-11-06T00:00:00Z").plusSeconds(i)));
+            news.setBody("The body of a news article long enough to be worth compressing. ".repeat(3));
+            seeded.add(news);
+        }
+        newsList = newsRepository.saveAllAndFlush(seeded);
+
+        jdbcTemplate.update("INSERT INTO news_feed_version (id, version, updated_at) VALUES (1, 42, ?)",Timestamp.from(Instant.parse("2025-11-06T10:00:00Z")));
+    }
+
+    @AfterEach
+    void afterEach(){
+        jdbcTemplate.update("DELETE FROM news_feed_version");
+        newsRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    class get{
+        @Test
+        @DisplayName("Should gzip the listing through Tomcat while it carries the feed ETag")
+        void getTestGzipWithETagSuccess() throws Exception {
+            //Act
+            HttpResponse<byte[]> response = send("/news-api/news");
+
+            //Assert
+            assertEquals(200,response.statusCode());
+            assertEquals("W/\"feed-42\"",response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+            assertEquals("gzip",response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+            assertTrue(gunzip(response.body()).contains("CompressionNews19"));
+        }
+    }
+
+    @Nested
+    class getOne{
+        @Test
+        @DisplayName("Should gzip the article through Tomcat while it carries the article ETag")
+        void getOneTestGzipWithETagSuccess() throws Exception {
+            //Arrange
+            News news = newsList.get(0);
+
+            //Act
+            HttpResponse<byte[]> response = send("/news-api/news/" + news.getId());
+
+            //Assert
+            assertEquals(200,response.statusCode());
+            assertEquals("W/\"" + news.getId() + "-" + news.getVersion() + "\"",response.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+            assertEquals("gzip",response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+            assertTrue(gunzip(response.body()).contains(news.getTitle()));
+        }
+    }
+
+    private HttpResponse<byte[]> send(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.AUTHORIZATION,"Bearer " + token)
+                .header(HttpHeaders.ACCEPT_ENCODING,"gzip")
+                .GET()
+                .build();
+        return httpClient.send(request,HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(input.readAllBytes(),StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.NewsAPI.controllers;
+
+import com.example.NewsAPI.domain.infra.diagnostics.QueryStats;
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"diagnostics.query.enabled=true", "diagnostics.query.server-timing=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class NewsControllerQueryCountTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    int seededNews;
+
+    @AfterEach
+    void afterEach(){
+        newsRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    class get{
+        @Test
+        @DisplayName("Should run the same number of statements for the unpaged listing no matter how many writers are listed")
+        void getTestUnpagedStatementsDoNotGrowWithWriters() throws Exception {
+            //Arrange
+            seedNews(1,3);
+            int statementsWithOneWriter = statementsFor(get("/news-api/news"));
+
+            seedNews(12,12);
+            //Act
+            int statementsWithManyWriters = statementsFor(get("/news-api/news"));
+
+            //Assert
+            assertEquals(statementsWithOneWriter,statementsWithManyWriters);
+            assertTrue(statementsWithManyWriters <= 2);
+        }
+
+        @Test
+        @DisplayName("Should run the same number of statements for a page no matter how many writers are listed")
+        void getTestPagedStatementsDoNotGrowWithWriters() throws Exception {
+            //Arrange
+            seedNews(1,3);
+            int statementsWithOneWriter = statementsFor(get("/news-api/news").param("pageSize","2"));
+
+            seedNews(12,12);
+            //Act
+            int statementsWithManyWriters = statementsFor(get("/news-api/news").param("pageSize","2"));
+
+            //Assert
+            assertEquals(statementsWithOneWriter,statementsWithManyWriters);
+            assertTrue(statementsWithManyWriters <= 3);
+        }
+    }
+
+    @Nested
+    class getOne{
+        @Test
+        @DisplayName("Should read a single article and its revision with a single statement and report it in Server-Timing")
+        void getOneTestStatementsAndServerTiming() throws Exception {
+            //Arrange
+            News news = seedNews(1,1).get(0);
+
+            //Act
+            MvcResult result = mockMvc.perform(get("/news-api/news/{newsId}",news.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            //Assert
+            QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryStats.ATTRIBUTE);
+            assertEquals(1,stats.getStatements());
+            assertNotNull(result.getResponse().getHeader("Server-Timing"));
+            assertTrue(result.getResponse().getHeader("Server-Timing").startsWith("db;dur="));
+        }
+    }
+
+    private int statementsFor(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return ((QueryStats) result.getRequest().getAttribute(QueryStats.ATTRIBUTE)).getStatements();
+    }
+
+    private List<News> seedNews(int writers, int news){
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < writers; i++){
+            users.add(UserTestFactory.buildOne("QueryCountWriter" + seededNews + "-" + i));
+        }
+        users = userRepository.saveAllAndFlush(users);
+
+        List<News> newsList = new ArrayList<>();
+        for (int i = 0; i < news; i++){
+            newsList.add(NewsTestFactory.buildOneWithoutId("QueryCountNews" + (seededNews + i),users.get(i % writers),Date.from(Instant.parse("2025-10-14T00:00:00Z").plusSeconds(seededNews + i))));
+        }
+        seededNews += news;
+        return newsRepository.saveAllAndFlush(newsList);
+    }
+}
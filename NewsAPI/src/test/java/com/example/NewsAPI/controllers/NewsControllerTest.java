@@ -2,18 +2,32 @@ package com.example.NewsAPI.controllers;
 
 import com.example.NewsAPI.domain.infra.security.SecurityConfiguration;
 import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsBatchItemResultDTO;
+import com.example.NewsAPI.domain.news.NewsBatchResponseDTO;
 import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsFilter;
 import com.example.NewsAPI.domain.news.NewsGetResponseListDTO;
 import com.example.NewsAPI.domain.news.NewsRequestDTO;
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.news.NewsSearchResponseDTO;
+import com.example.NewsAPI.domain.news.NewsSearchResponseListDTO;
+import com.example.NewsAPI.domain.news.NewsVersion;
 import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.services.NewsService;
+import com.example.NewsAPI.domain.services.NewsVersionService;
 import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.services.UserCacheService;
 import com.example.NewsAPI.domain.services.UserService;
 import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.domain.user.UserRole;
 import com.example.NewsAPI.exception.BelongsToAnotherWriterException;
 import com.example.NewsAPI.exception.DateConvertException;
+import com.example.NewsAPI.exception.InvalidBatchException;
+import com.example.NewsAPI.exception.InvalidCursorException;
+import com.example.NewsAPI.exception.InvalidDateRangeException;
+import com.example.NewsAPI.exception.InvalidSearchQueryException;
 import com.example.NewsAPI.exception.NewsNotFoundException;
+import com.example.NewsAPI.exception.NewsVersionMismatchException;
 import com.example.NewsAPI.factory.NewsTestFactory;
 import com.example.NewsAPI.factory.UserTestFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,15 +39,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -54,6 +75,9 @@ class NewsControllerTest {
     @MockitoBean
     NewsService newsService;
 
+    @MockitoBean
+    NewsVersionService newsVersionService;
+
     @MockitoBean
     UserService userService;
 
@@ -63,6 +87,9 @@ class NewsControllerTest {
     @MockitoBean
     TokenService tokenService;
 
+    @MockitoBean
+    UserCacheService userCacheService;
+
 
     @Nested
     class create{
@@ -154,6 +181,112 @@ class NewsControllerTest {
         }
     }
 
+    @Nested
+    class createBatch{
+        @Test
+        @DisplayName("Should return 201 Created with the per-item results when every news in the batch is created")
+        void createBatchTest201Success() throws Exception{
+            //Arrange
+            List<NewsRequestDTO> newsData = List.of(new NewsRequestDTO("TitleTest1","BodyTest1"),new NewsRequestDTO("TitleTest2","BodyTest2"));
+
+            UUID firstId = UUID.randomUUID();
+            UUID secondId = UUID.randomUUID();
+            NewsBatchResponseDTO responseExpected = new NewsBatchResponseDTO("News batch processed",2,0,
+                    List.of(NewsBatchItemResultDTO.created(0,firstId),NewsBatchItemResultDTO.created(1,secondId)));
+
+            when(newsService.createBatch(newsData)).thenReturn(responseExpected);
+
+            //Act / Assert
+            mockMvc.perform(post("/news-api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newsData))
+                        .with(user("UserTest").roles("WRITER"))
+                        .with(csrf())
+                    ).andExpectAll(
+                        MockMvcResultMatchers.status().isCreated(),
+                        jsonPath("$.created").value(2),
+                        jsonPath("$.rejected").value(0),
+                        jsonPath("$.results[0].status").value("CREATED"),
+                        jsonPath("$.results[0].id").value(firstId.toString()),
+                        jsonPath("$.results[1].id").value(secondId.toString())
+                    );
+
+            //Assert
+            verify(newsService).createBatch(newsData);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @Test
+        @DisplayName("Should return 207 Multi-Status with the validation errors of the rejected news")
+        void createBatchTest207PartialSuccess() throws Exception{
+            //Arrange
+            List<NewsRequestDTO> newsData = List.of(new NewsRequestDTO("TitleTest1","BodyTest1"),new NewsRequestDTO("","BodyTest2"));
+
+            UUID firstId = UUID.randomUUID();
+            NewsBatchResponseDTO responseExpected = new NewsBatchResponseDTO("News batch processed",1,1,
+                    List.of(NewsBatchItemResultDTO.created(0,firstId),
+                            NewsBatchItemResultDTO.rejected(1,Map.of("title","The news title is a mandatory parameter"))));
+
+            when(newsService.createBatch(newsData)).thenReturn(responseExpected);
+
+            //Act / Assert
+            mockMvc.perform(post("/news-api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newsData))
+                        .with(user("UserTest").roles("WRITER"))
+                        .with(csrf())
+                    ).andExpectAll(
+                        MockMvcResultMatchers.status().isMultiStatus(),
+                        jsonPath("$.created").value(1),
+                        jsonPath("$.rejected").value(1),
+                        jsonPath("$.results[1].status").value("REJECTED"),
+                        jsonPath("$.results[1].errors.title").value("The news title is a mandatory parameter")
+                    );
+
+            //Assert
+            verify(newsService).createBatch(newsData);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the batch is empty or too large")
+        void createBatchTest400InvalidBatchFailure() throws Exception{
+            //Arrange
+            when(newsService.createBatch(List.of())).thenThrow(new InvalidBatchException("The batch must contain between 1 and 1000 news"));
+
+            //Act / Assert
+            mockMvc.perform(post("/news-api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]")
+                        .with(user("UserTest").roles("WRITER"))
+                        .with(csrf())
+                    ).andExpectAll(
+                        MockMvcResultMatchers.status().isBadRequest(),
+                        content().string("The batch must contain between 1 and 1000 news.")
+                    );
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when a Reader try to create a batch of news")
+        void createBatchTest403ReaderUserFailure() throws Exception{
+            //Arrange
+            List<NewsRequestDTO> newsData = List.of(new NewsRequestDTO("TitleTest","BodyTest"));
+
+            //Act / Assert
+            mockMvc.perform(post("/news-api/news/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(newsData))
+                        .with(user("UserTest").roles("READER"))
+                        .with(csrf())
+                    ).andExpect(MockMvcResultMatchers.status().isForbidden());
+
+            //Assert
+            verify(newsService,never()).createBatch(any());
+        }
+    }
+
     @Nested
     class get{
         @DisplayName("It should return 200 OK with a list containing all news that match the filters")
@@ -177,7 +310,7 @@ class NewsControllerTest {
             List<News> newsListExpected = List.of(news1,news2);
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
 
-            when(newsService.get(title,writerUsername,publicationDateString)).thenReturn(newsListDTOExpected);
+            when(newsService.get(NewsFilter.of(title,writerUsername,publicationDateString),true)).thenReturn(newsListDTOExpected);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -205,7 +338,7 @@ class NewsControllerTest {
                     );
 
             //Assert
-            verify(newsService).get(title,writerUsername,publicationDateString);
+            verify(newsService).get(NewsFilter.of(title,writerUsername,publicationDateString),true);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -227,7 +360,7 @@ class NewsControllerTest {
             List<News> newsListExpected = List.of(news1,news2);
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
 
-            when(newsService.get(null,null,null)).thenReturn(newsListDTOExpected);
+            when(newsService.get(NewsFilter.of(null,null,null),true)).thenReturn(newsListDTOExpected);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -252,7 +385,7 @@ class NewsControllerTest {
                     );
 
             //Assert
-            verify(newsService).get(null,null,null);
+            verify(newsService).get(NewsFilter.of(null,null,null),true);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -289,7 +422,7 @@ class NewsControllerTest {
                     newsListDTO
             );
 
-            when(newsService.getNewsPaged(title,writerUsername,publicationDateString,page,pageSize)).thenReturn(newsListResponseDTOExpected);
+            when(newsService.getNewsPaged(NewsFilter.of(title,writerUsername,publicationDateString),page,pageSize,true)).thenReturn(newsListResponseDTOExpected);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -319,7 +452,7 @@ class NewsControllerTest {
                     );
 
             //Assert
-            verify(newsService).getNewsPaged(title,writerUsername,publicationDateString,page,pageSize);
+            verify(newsService).getNewsPaged(NewsFilter.of(title,writerUsername,publicationDateString),page,pageSize,true);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -352,7 +485,7 @@ class NewsControllerTest {
                     newsListDTO
             );
 
-            when(newsService.getNewsPaged(null,null,null,page,pageSize)).thenReturn(newsListResponseDTOExpected);
+            when(newsService.getNewsPaged(NewsFilter.of(null,null,null),page,pageSize,true)).thenReturn(newsListResponseDTOExpected);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -379,7 +512,7 @@ class NewsControllerTest {
                     );
 
             //Assert
-            verify(newsService).getNewsPaged(null,null,null,page,pageSize);
+            verify(newsService).getNewsPaged(NewsFilter.of(null,null,null),page,pageSize,true);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -406,7 +539,7 @@ class NewsControllerTest {
                     newsListDTO
             );
 
-            when(newsService.getNewsPaged(title,writerUsername,publicationDateString,page,pageSize)).thenReturn(newsListResponseDTOExpected);
+            when(newsService.getNewsPaged(NewsFilter.of(title,writerUsername,publicationDateString),page,pageSize,true)).thenReturn(newsListResponseDTOExpected);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -425,7 +558,7 @@ class NewsControllerTest {
                     );
 
             //Assert
-            verify(newsService).getNewsPaged(title,writerUsername,publicationDateString,page,pageSize);
+            verify(newsService).getNewsPaged(NewsFilter.of(title,writerUsername,publicationDateString),page,pageSize,true);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -435,7 +568,7 @@ class NewsControllerTest {
         void getTest400InvalidDateFormatFailure() throws Exception {
             //Arrange
             String invalidDateString = "06-11-2025";
-            when(newsService.get(null,null,invalidDateString)).thenThrow(DateConvertException.class);
+            when(newsService.get(NewsFilter.of(null,null,invalidDateString),true)).thenThrow(DateConvertException.class);
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news")
@@ -447,12 +580,238 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).get(null,null,invalidDateString);
+            verify(newsService).get(NewsFilter.of(null,null,invalidDateString),true);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+
+
+        @DisplayName("Should return 200 OK without the body of the news when includeBody is false")
+        @Test
+        void getTestWithoutBodySuccess() throws Exception {
+            //Arrange
+            News news = NewsTestFactory.buildOne();
+            NewsGetResponseDTO newsDTO = new NewsGetResponseDTO(news.getId(),news.getTitle(),null,news.getPublishedAt(),news.getWriter().getUsername());
+
+            when(newsService.get(NewsFilter.of(null,null,null),false)).thenReturn(List.of(newsDTO));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("includeBody","false")
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            jsonPath("$.news[0].id").value(news.getId().toString()),
+                            jsonPath("$.news[0].title").value(news.getTitle()),
+                            jsonPath("$.news[0].body").doesNotExist()
+                    );
+
+            //Assert
+            verify(newsService).get(NewsFilter.of(null,null,null),false);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @DisplayName("Should return 200 OK with a keyset page and the next cursor when a cursor is sent")
+        @Test
+        void getTestCursorPagedSuccess() throws Exception {
+            //Arrange
+            int pageSize = 2;
+            String cursor = "";
+            String nextCursor = "MTc2MjM4NzIwMDAwMDo5YTNhY2Q1MS0yMTQzLTRhMzMtODFhNS02ZWEwNjUyODUzNzk";
+
+            News news1 = NewsTestFactory.buildOne(Date.from(Instant.parse("2025-11-06T00:00:00Z")));
+            News news2 = NewsTestFactory.buildOne(Date.from(Instant.parse("2025-11-05T00:00:00Z")));
+
+            NewsGetResponseListDTO newsListResponseDTOExpected = NewsGetResponseListDTO.cursorPage(
+                    "News returned successfully",
+                    NewsTestFactory.buildGetDTOList(List.of(news1,news2)),
+                    nextCursor
+            );
+
+            when(newsService.getNewsByCursor(NewsFilter.of(null,null,null),cursor,pageSize,true)).thenReturn(newsListResponseDTOExpected);
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("pageSize",String.valueOf(pageSize))
+                            .param("cursor",cursor)
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            jsonPath("$.message").value("News returned successfully"),
+                            jsonPath("$.newsFound").doesNotExist(),
+                            jsonPath("$.pagesFound").doesNotExist(),
+                            jsonPath("$.news", hasSize(2)),
+                            jsonPath("$.nextCursor").value(nextCursor)
+                    );
+
+            //Assert
+            verify(newsService).getNewsByCursor(NewsFilter.of(null,null,null),cursor,pageSize,true);
 
             verifyNoMoreInteractions(newsService);
         }
 
+        @DisplayName("Should return 200 OK with the first keyset page when paging=cursor is sent without a cursor")
+        @Test
+        void getTestCursorPagingFirstPageSuccess() throws Exception {
+            //Arrange
+            int pageSize = 2;
+            String nextCursor = "MTc2MjM4NzIwMDAwMDo5YTNhY2Q1MS0yMTQzLTRhMzMtODFhNS02ZWEwNjUyODUzNzk";
 
+            News news1 = NewsTestFactory.buildOne(Date.from(Instant.parse("2025-11-06T00:00:00Z")));
+            News news2 = NewsTestFactory.buildOne(Date.from(Instant.parse("2025-11-05T00:00:00Z")));
+
+            NewsGetResponseListDTO newsListResponseDTOExpected = NewsGetResponseListDTO.cursorPage(
+                    "News returned successfully",
+                    NewsTestFactory.buildGetDTOList(List.of(news1,news2)),
+                    nextCursor
+            );
+
+            when(newsService.getNewsByCursor(NewsFilter.of(null,null,null),null,pageSize,true)).thenReturn(newsListResponseDTOExpected);
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("pageSize",String.valueOf(pageSize))
+                            .param("paging","cursor")
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            jsonPath("$.news", hasSize(2)),
+                            jsonPath("$.nextCursor").value(nextCursor)
+                    );
+
+            //Assert
+            verify(newsService).getNewsByCursor(NewsFilter.of(null,null,null),null,pageSize,true);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @DisplayName("Should return 400 Bad Request when an invalid cursor is sent")
+        @Test
+        void getTest400InvalidCursorFailure() throws Exception {
+            //Arrange
+            int pageSize = 2;
+            String cursor = "invalid";
+
+            when(newsService.getNewsByCursor(NewsFilter.of(null,null,null),cursor,pageSize,true)).thenThrow(new InvalidCursorException("Invalid pagination cursor"));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("pageSize",String.valueOf(pageSize))
+                            .param("cursor",cursor)
+                            .with(user("UserTest"))
+                    ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+            //Assert
+            verify(newsService).getNewsByCursor(NewsFilter.of(null,null,null),cursor,pageSize,true);
+        }
+
+        @DisplayName("Should return 200 OK passing the ISO-8601 from, to and since filters to the service")
+        @Test
+        void getTestDateRangeFiltersSuccess() throws Exception {
+            //Arrange
+            NewsFilter filter = new NewsFilter(null,null,null,Instant.parse("2025-11-06T10:00:00Z"),Instant.parse("2025-11-06T16:00:00Z"),Duration.ofHours(6));
+
+            when(newsService.get(filter,true)).thenReturn(List.of());
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("from","2025-11-06T10:00:00Z")
+                            .param("to","2025-11-06T16:00:00Z")
+                            .param("since","PT6H")
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            header().doesNotExist("ETag"),
+                            jsonPath("$.newsFound").value(0)
+                    );
+
+            //Assert
+            verify(newsService).get(filter,true);
+            verifyNoInteractions(newsVersionService);
+        }
+
+        @DisplayName("Should return 400 Bad Request when the from instant is not ISO-8601")
+        @Test
+        void getTest400InvalidFromFailure() throws Exception {
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("from","06/11/2025")
+                            .with(user("UserTest"))
+                    ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+            //Assert
+            verifyNoInteractions(newsService);
+        }
+
+        @DisplayName("Should return 400 Bad Request when the service rejects the date range")
+        @Test
+        void getTest400InvalidDateRangeFailure() throws Exception {
+            //Arrange
+            NewsFilter filter = new NewsFilter(null,null,null,Instant.parse("2025-11-06T16:00:00Z"),Instant.parse("2025-11-06T10:00:00Z"),null);
+
+            when(newsService.get(filter,true)).thenThrow(new InvalidDateRangeException("The from instant must be before the to instant"));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("from","2025-11-06T16:00:00Z")
+                            .param("to","2025-11-06T10:00:00Z")
+                            .with(user("UserTest"))
+                    ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+            //Assert
+            verify(newsService).get(filter,true);
+        }
+
+        @DisplayName("Should return 200 OK with the feed ETag and Last-Modified headers when the feed version is known")
+        @Test
+        void getTestFeedVersionHeadersSuccess() throws Exception {
+            //Arrange
+            NewsVersion feedVersion = new NewsVersion("W/\"feed-42\"",Instant.parse("2025-11-06T10:00:00Z"));
+
+            when(newsVersionService.getFeedVersion()).thenReturn(Optional.of(feedVersion));
+            when(newsService.get(NewsFilter.of(null,null,null),true)).thenReturn(List.of());
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            header().string("ETag","W/\"feed-42\""),
+                            header().string("Last-Modified","Thu, 06 Nov 2025 10:00:00 GMT"),
+                            jsonPath("$.newsFound").value(0)
+                    );
+
+            //Assert
+            verify(newsVersionService).getFeedVersion();
+            verify(newsService).get(NewsFilter.of(null,null,null),true);
+        }
+
+        @DisplayName("Should return 304 Not Modified without querying the news when the feed ETag matches")
+        @Test
+        void getTest304NotModifiedSuccess() throws Exception {
+            //Arrange
+            NewsVersion feedVersion = new NewsVersion("W/\"feed-42\"",Instant.parse("2025-11-06T10:00:00Z"));
+
+            when(newsVersionService.getFeedVersion()).thenReturn(Optional.of(feedVersion));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .param("pageSize","10")
+                            .header("If-None-Match","W/\"feed-42\"")
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isNotModified(),
+                            header().string("ETag","W/\"feed-42\""),
+                            content().string("")
+                    );
+
+            //Assert
+            verify(newsVersionService).getFeedVersion();
+
+            verifyNoInteractions(newsService);
+        }
 
         @DisplayName("Should return 401 Unauthorized when try to get news without authentication token")
         @Test
@@ -474,8 +833,158 @@ class NewsControllerTest {
                     ).andExpect(MockMvcResultMatchers.status().isUnauthorized());
             //Assert
 
-            verify(newsService,never()).get(any(),any(),any());
-            verify(newsService,never()).getNewsPaged(anyString(),anyString(),anyString(),anyInt(),anyInt());
+            verify(newsService,never()).get(any(),anyBoolean());
+            verify(newsService,never()).getNewsPaged(any(),anyInt(),anyInt(),anyBoolean());
+        }
+    }
+
+    @Nested
+    class stream{
+        @DisplayName("Should return 200 OK streaming one JSON document per line when NDJSON is accepted")
+        @Test
+        void streamTestSuccess() throws Exception {
+            //Arrange
+            String writerUsername = "WriterTest";
+            User writer = UserTestFactory.buildOne(writerUsername);
+
+            News news1 = NewsTestFactory.buildOne("TitleTest1",writer,Date.from(Instant.parse("2025-11-06T00:00:00Z")));
+            News news2 = NewsTestFactory.buildOne("TitleTest2",writer,Date.from(Instant.parse("2025-11-06T10:00:00Z")));
+
+            List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(List.of(news1,news2));
+
+            doAnswer(invocation -> {
+                Consumer<NewsGetResponseDTO> action = invocation.getArgument(2);
+                newsListDTOExpected.forEach(action);
+                return null;
+            }).when(newsService).forEachNews(eq(NewsFilter.of(null,writerUsername,null)),eq(true),any());
+
+            //Act
+            MvcResult asyncResult = mockMvc.perform(get("/news-api/news")
+                            .param("writer",writerUsername)
+                            .accept(MediaType.APPLICATION_NDJSON)
+                            .with(user("UserTest"))
+                    ).andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String content = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            content().contentType(MediaType.APPLICATION_NDJSON)
+                    ).andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            //Assert
+            verify(newsService).forEachNews(eq(NewsFilter.of(null,writerUsername,null)),eq(true),any());
+
+            verifyNoMoreInteractions(newsService);
+
+            String[] lines = content.split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo(news1.getId().toString());
+            assertThat(objectMapper.readTree(lines[0]).get("publishedAt").asText()).isEqualTo("2025-11-05T21:00:00.000-03:00");
+            assertThat(objectMapper.readTree(lines[1]).get("id").asText()).isEqualTo(news2.getId().toString());
+        }
+
+        @DisplayName("Should keep returning the JSON listing when any media type is accepted")
+        @Test
+        void streamTestAcceptAllReturnsJsonSuccess() throws Exception {
+            //Arrange
+            when(newsService.get(NewsFilter.of(null,null,null),true)).thenReturn(List.of());
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .accept(MediaType.ALL)
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                            jsonPath("$.newsFound").value(0)
+                    );
+
+            //Assert
+            verify(newsService).get(NewsFilter.of(null,null,null),true);
+            verify(newsService,never()).forEachNews(any(),anyBoolean(),any());
+        }
+
+        @DisplayName("Should return 401 Unauthorized when try to stream news without authentication token")
+        @Test
+        void streamTest401UnauthorizedFailure() throws Exception {
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news")
+                            .accept(MediaType.APPLICATION_NDJSON)
+                    ).andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+            //Assert
+            verify(newsService,never()).forEachNews(any(),anyBoolean(),any());
+        }
+    }
+
+    @Nested
+    class search{
+        @DisplayName("Should return 200 OK with the ranked search results and highlighted snippets")
+        @Test
+        void searchTestSuccess() throws Exception {
+            //Arrange
+            String query = "election";
+            UUID id = UUID.randomUUID();
+
+            NewsSearchResponseListDTO responseExpected = new NewsSearchResponseListDTO(
+                    "News returned successfully",
+                    1,
+                    1,
+                    List.of(new NewsSearchResponseDTO(id,"Election day","<mark>Election</mark> day","The <mark>election</mark> starts today",Date.from(Instant.parse("2025-11-06T00:00:00Z")),"WriterTest"))
+            );
+
+            when(newsService.search(query,0,10)).thenReturn(responseExpected);
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/search")
+                            .param("q",query)
+                            .with(user("UserTest"))
+                    ).andExpectAll(
+                            MockMvcResultMatchers.status().isOk(),
+                            jsonPath("$.message").value("News returned successfully"),
+                            jsonPath("$.newsFound").value(1),
+                            jsonPath("$.news", hasSize(1)),
+                            jsonPath("$.news[0].id").value(id.toString()),
+                            jsonPath("$.news[0].highlightedTitle").value("<mark>Election</mark> day"),
+                            jsonPath("$.news[0].snippet").value("The <mark>election</mark> starts today"),
+                            jsonPath("$.news[0].publishedAt").value("2025-11-05T21:00:00.000-03:00")
+                    );
+
+            //Assert
+            verify(newsService).search(query,0,10);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @DisplayName("Should return 400 Bad Request when the search query is blank")
+        @Test
+        void searchTest400BlankQueryFailure() throws Exception {
+            //Arrange
+            when(newsService.search(" ",0,10)).thenThrow(new InvalidSearchQueryException("Search query must not be blank"));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/search")
+                            .param("q"," ")
+                            .with(user("UserTest"))
+                    ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+            //Assert
+            verify(newsService).search(" ",0,10);
+        }
+
+        @DisplayName("Should return 401 Unauthorized when try to search news without authentication token")
+        @Test
+        void searchTest401UnauthorizedFailure() throws Exception {
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/search")
+                            .param("q","election")
+                    ).andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+            //Assert
+            verify(newsService,never()).search(anyString(),anyInt(),anyInt());
         }
     }
 
@@ -490,14 +999,18 @@ class NewsControllerTest {
             final String NEWS_DATE_ISO = "2025-11-04T21:00:00.000-03:00";
 
             News newsExpected = NewsTestFactory.buildOne(newsId,publicationDate);
+            NewsRevision revision = NewsRevision.from(newsExpected);
+            String eTag = "W/\"" + newsId + "-0\"";
 
-            when(newsService.getOne(newsId)).thenReturn(newsExpected);
+            when(newsService.getOne(newsId)).thenReturn(revision);
+            when(newsVersionService.getNewsVersion(revision)).thenReturn(new NewsVersion(eTag,Instant.parse("2025-11-06T10:00:00Z")));
 
             //Act / Assert
             mockMvc.perform(get("/news-api/news/{newsId}",newsId)
                     .with(user("UserTest"))
                 ).andExpectAll(
                         MockMvcResultMatchers.status().isOk(),
+                        header().string("ETag",eTag),
                         jsonPath("$.message").value("News found successfully"),
                         jsonPath("$.title").value(newsExpected.getTitle()),
                         jsonPath("$.body").value(newsExpected.getBody()),
@@ -512,6 +1025,85 @@ class NewsControllerTest {
             verifyNoMoreInteractions(newsService);
         }
 
+        @Test
+        @DisplayName("Should return 304 Not Modified from the cached revision when the article ETag matches")
+        void getOneTest304NotModifiedSuccess() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            String eTag = "W/\"" + newsId + "-1762423200000\"";
+            NewsRevision revision = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            when(newsService.getOne(newsId)).thenReturn(revision);
+            when(newsVersionService.getNewsVersion(revision)).thenReturn(new NewsVersion(eTag,Instant.parse("2025-11-06T10:00:00Z")));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/{newsId}",newsId)
+                    .header("If-None-Match",eTag)
+                    .with(user("UserTest"))
+                ).andExpectAll(
+                        MockMvcResultMatchers.status().isNotModified(),
+                        header().string("ETag",eTag),
+                        content().string("")
+                );
+
+            //Assert
+            verify(newsService).getOne(newsId);
+            verify(newsVersionService).getNewsVersion(revision);
+
+            verifyNoMoreInteractions(newsService,newsVersionService);
+        }
+
+        @Test
+        @DisplayName("Should return 304 Not Modified when the article was not modified since the sent date")
+        void getOneTest304IfModifiedSinceSuccess() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            String eTag = "W/\"" + newsId + "-1762423200000\"";
+            NewsRevision revision = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            when(newsService.getOne(newsId)).thenReturn(revision);
+            when(newsVersionService.getNewsVersion(revision)).thenReturn(new NewsVersion(eTag,Instant.parse("2025-11-06T10:00:00Z")));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/{newsId}",newsId)
+                    .header("If-Modified-Since","Thu, 06 Nov 2025 10:00:00 GMT")
+                    .with(user("UserTest"))
+                ).andExpectAll(
+                        MockMvcResultMatchers.status().isNotModified(),
+                        content().string("")
+                );
+
+            //Assert
+            verify(newsService).getOne(newsId);
+        }
+
+        @Test
+        @DisplayName("Should return 200 OK with the new ETag when the article changed since the sent ETag")
+        void getOneTestModifiedSuccess() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            String eTag = "W/\"" + newsId + "-1762423200000\"";
+
+            News newsExpected = NewsTestFactory.buildOne(newsId);
+            NewsRevision revision = NewsRevision.from(newsExpected);
+
+            when(newsService.getOne(newsId)).thenReturn(revision);
+            when(newsVersionService.getNewsVersion(revision)).thenReturn(new NewsVersion(eTag,Instant.parse("2025-11-06T10:00:00Z")));
+
+            //Act / Assert
+            mockMvc.perform(get("/news-api/news/{newsId}",newsId)
+                    .header("If-None-Match","W/\"" + newsId + "-1\"")
+                    .with(user("UserTest"))
+                ).andExpectAll(
+                        MockMvcResultMatchers.status().isOk(),
+                        header().string("ETag",eTag),
+                        jsonPath("$.title").value(newsExpected.getTitle())
+                );
+
+            //Assert
+            verify(newsService).getOne(newsId);
+        }
+
         @Test
         @DisplayName("Should return 404 Not Found when News Service throws NewsNotFoundException")
         void getOneTest404NotFoundFailure() throws Exception {
@@ -532,6 +1124,7 @@ class NewsControllerTest {
             verify(newsService).getOne(incorrectID);
 
             verifyNoMoreInteractions(newsService);
+            verifyNoInteractions(newsVersionService);
         }
 
         @Test
@@ -582,7 +1175,7 @@ class NewsControllerTest {
 
             News newsExpected = NewsTestFactory.buildOne(newsId,newsData,writer,publicationDate);
 
-            when(newsService.update(newsId,newsData)).thenReturn(newsExpected);
+            when(newsService.update(newsId,newsData,null)).thenReturn(newsExpected);
 
             //Act / Assert
             mockMvc.perform(put("/news-api/news/{newsId}",newsId)
@@ -600,7 +1193,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).update(newsId,newsData);
+            verify(newsService).update(newsId,newsData,null);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -621,7 +1214,7 @@ class NewsControllerTest {
 
             News newsExpected = NewsTestFactory.buildOne(newsId,oldNewsData,writer,publicationDate);
 
-            when(newsService.update(newsId,newsDataSent)).thenReturn(newsExpected);
+            when(newsService.update(newsId,newsDataSent,null)).thenReturn(newsExpected);
 
             //Act / Assert
             mockMvc.perform(put("/news-api/news/{newsId}",newsId)
@@ -639,7 +1232,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).update(newsId,newsDataSent);
+            verify(newsService).update(newsId,newsDataSent,null);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -654,7 +1247,7 @@ class NewsControllerTest {
 
             User writer = UserTestFactory.buildOne("WriterTest",UserRole.WRITER);
 
-            when(newsService.update(incorrectId,newsData)).thenThrow(new NewsNotFoundException("News Not Found"));
+            when(newsService.update(incorrectId,newsData,null)).thenThrow(new NewsNotFoundException("News Not Found"));
 
             //Act / Assert
             mockMvc.perform(put("/news-api/news/{newsId}",incorrectId)
@@ -668,7 +1261,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).update(incorrectId,newsData);
+            verify(newsService).update(incorrectId,newsData,null);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -680,7 +1273,7 @@ class NewsControllerTest {
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
             NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated","BodyTestUpdated");
 
-            when(newsService.update(newsId,newsData)).thenThrow(new BelongsToAnotherWriterException("You are not authorized to update this news because it belongs to another user."));
+            when(newsService.update(newsId,newsData,null)).thenThrow(new BelongsToAnotherWriterException("You are not authorized to update this news because it belongs to another user."));
             //Act / Assert
             mockMvc.perform(put("/news-api/news/{newsId}",newsId)
                     .contentType(MediaType.APPLICATION_JSON)
@@ -693,11 +1286,62 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).update(newsId,newsData);
+            verify(newsService).update(newsId,newsData,null);
 
             verifyNoMoreInteractions(newsService);
         }
 
+        @Test
+        @DisplayName("Should pass the version from the If-Match header and return 412 Precondition Failed when it is stale")
+        void updateTest412VersionMismatchFailure() throws Exception{
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated","BodyTestUpdated");
+            String ifMatch = "W/\"" + newsId + "-3\"";
+
+            when(newsVersionService.expectedVersion(newsId,ifMatch)).thenReturn(Optional.of(3L));
+            when(newsService.update(newsId,newsData,3L)).thenThrow(new NewsVersionMismatchException("The news was modified since the version sent in If-Match"));
+
+            //Act / Assert
+            mockMvc.perform(put("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .header("If-Match",ifMatch)
+                    .with(user("WriterTest").roles("WRITER"))
+                    .with(csrf())
+            ).andExpectAll(
+                    MockMvcResultMatchers.status().isPreconditionFailed(),
+                    MockMvcResultMatchers.content().string("The news was modified since the version sent in If-Match. Fetch it again and retry with the new ETag.")
+            );
+
+            //Assert
+            verify(newsVersionService).expectedVersion(newsId,ifMatch);
+            verify(newsService).update(newsId,newsData,3L);
+
+            verifyNoMoreInteractions(newsService,newsVersionService);
+        }
+
+        @Test
+        @DisplayName("Should return 409 Conflict when a concurrent edit wins the optimistic lock")
+        void updateTest409OptimisticLockFailure() throws Exception{
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated","BodyTestUpdated");
+
+            when(newsService.update(newsId,newsData,null)).thenThrow(new ObjectOptimisticLockingFailureException(News.class,newsId));
+
+            //Act / Assert
+            mockMvc.perform(put("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .with(user("WriterTest").roles("WRITER"))
+                    .with(csrf())
+            ).andExpectAll(
+                    MockMvcResultMatchers.status().isConflict(),
+                    MockMvcResultMatchers.content().string("The news was modified by another request at the same time. Fetch it again and retry.")
+            );
+        }
+
         @Test
         @DisplayName("Should return 400 Bad Request when an ID with an incorrect type was sent")
         void updateTest400IncorrectTypeFailure() throws Exception {
@@ -716,7 +1360,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService,never()).update(any(),any());
+            verify(newsService,never()).update(any(),any(),any());
         }
 
         @Test
@@ -736,7 +1380,7 @@ class NewsControllerTest {
             ).andExpect(MockMvcResultMatchers.status().isForbidden());
 
             //Assert
-            verify(newsService,never()).update(any(),any());
+            verify(newsService,never()).update(any(),any(),any());
         }
 
         @Test
@@ -755,7 +1399,102 @@ class NewsControllerTest {
             ).andExpect(MockMvcResultMatchers.status().isUnauthorized());
 
             //Assert
-            verify(newsService,never()).update(any(),any());
+            verify(newsService,never()).update(any(),any(),any());
+        }
+    }
+
+    @Nested
+    class patch{
+        @Test
+        @DisplayName("Should return 200 OK with the patched news")
+        void patchTestSuccess() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+
+            Date publicationDate = Date.from(Instant.parse("2025-11-05T00:00:00Z"));
+            final String NEWS_DATE_ISO = "2025-11-04T21:00:00.000-03:00";
+
+            NewsGetResponseDTO newsExpected = new NewsGetResponseDTO(newsId,"TitleTestUpdated","BodyTest",publicationDate,"WriterTest");
+
+            when(newsService.patch(newsId,newsData,null)).thenReturn(newsExpected);
+
+            //Act / Assert
+            mockMvc.perform(patch("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .with(user("WriterTest").roles("WRITER"))
+                    .with(csrf())
+            ).andExpectAll(
+                    MockMvcResultMatchers.status().isOk(),
+                    jsonPath("$.message").value("News updated successfully"),
+                    jsonPath("$.id").value(newsId.toString()),
+                    jsonPath("$.title").value("TitleTestUpdated"),
+                    jsonPath("$.body").value("BodyTest"),
+                    jsonPath("$.publishedAt").value(NEWS_DATE_ISO),
+                    jsonPath("$.writer").value("WriterTest")
+            );
+
+            //Assert
+            verify(newsService).patch(newsId,newsData,null);
+
+            verifyNoMoreInteractions(newsService);
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when the news belongs to another writer")
+        void patchTest403BelongsToAnotherWriterFailure() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+
+            when(newsService.patch(newsId,newsData,null)).thenThrow(new BelongsToAnotherWriterException("You are not authorized to update this news because it belongs to another user."));
+
+            //Act / Assert
+            mockMvc.perform(patch("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .with(user("AnotherWriter").roles("WRITER"))
+                    .with(csrf())
+            ).andExpect(MockMvcResultMatchers.status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Should return 404 Not Found when the news does not exist")
+        void patchTest404NotFoundFailure() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+
+            when(newsService.patch(newsId,newsData,null)).thenThrow(new NewsNotFoundException("News Not Found"));
+
+            //Act / Assert
+            mockMvc.perform(patch("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .with(user("WriterTest").roles("WRITER"))
+                    .with(csrf())
+            ).andExpect(MockMvcResultMatchers.status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when a Reader try to patch a news")
+        void patchTest403ReaderUserFailure() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+
+            //Act / Assert
+            mockMvc.perform(patch("/news-api/news/{newsId}",newsId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newsData))
+                    .with(user("ReaderTest").roles("READER"))
+                    .with(csrf())
+            ).andExpect(MockMvcResultMatchers.status().isForbidden());
+
+            //Assert
+            verify(newsService,never()).patch(any(),any(),any());
         }
     }
 
@@ -772,9 +1511,9 @@ class NewsControllerTest {
 
             User writer = UserTestFactory.buildOne("WriterTest", UserRole.WRITER);
 
-            News newsExpected = NewsTestFactory.buildOne(newsId,publicationDate);
+            NewsGetResponseDTO newsExpected = NewsGetResponseDTO.from(NewsTestFactory.buildOne(newsId,publicationDate));
 
-            when(newsService.delete(newsId)).thenReturn(newsExpected);
+            when(newsService.delete(newsId,null)).thenReturn(newsExpected);
 
             //Act / Assert
             mockMvc.perform(delete("/news-api/news/{newsId}", newsId)
@@ -783,18 +1522,48 @@ class NewsControllerTest {
             ).andExpectAll(
                     MockMvcResultMatchers.status().isOk(),
                     jsonPath("$.message").value("News deleted successfully"),
-                    jsonPath("$.title").value(newsExpected.getTitle()),
-                    jsonPath("$.body").value(newsExpected.getBody()),
+                    jsonPath("$.id").value(newsId.toString()),
+                    jsonPath("$.title").value(newsExpected.title()),
+                    jsonPath("$.body").value(newsExpected.body()),
                     jsonPath("$.publishedAt").value(NEWS_DATE_ISO),
-                    jsonPath("$.writer").value(newsExpected.getWriter().getUsername())
+                    jsonPath("$.writer").value(newsExpected.writer())
             );
 
             //Assert
-            verify(newsService).delete(newsId);
+            verify(newsService).delete(newsId,null);
 
             verifyNoMoreInteractions(newsService);
         }
 
+        @Test
+        @DisplayName("Should pass the version from the If-Match header when deleting the news")
+        void deleteTestIfMatchSuccess() throws Exception {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            String ifMatch = "W/\"" + newsId + "-2\"";
+
+            NewsGetResponseDTO newsExpected = NewsGetResponseDTO.from(NewsTestFactory.buildOne(newsId));
+
+            when(newsVersionService.expectedVersion(newsId,ifMatch)).thenReturn(Optional.of(2L));
+            when(newsService.delete(newsId,2L)).thenReturn(newsExpected);
+
+            //Act / Assert
+            mockMvc.perform(delete("/news-api/news/{newsId}", newsId)
+                    .header("If-Match",ifMatch)
+                    .with(user("UserTest").roles("WRITER"))
+                    .with(csrf())
+            ).andExpectAll(
+                    MockMvcResultMatchers.status().isOk(),
+                    jsonPath("$.message").value("News deleted successfully")
+            );
+
+            //Assert
+            verify(newsVersionService).expectedVersion(newsId,ifMatch);
+            verify(newsService).delete(newsId,2L);
+
+            verifyNoMoreInteractions(newsService,newsVersionService);
+        }
+
         @Test
         @DisplayName("Should return 404 Not Found when News Service throws NewsNotFoundException")
         void deleteTest404NotFoundFailure() throws Exception {
@@ -803,7 +1572,7 @@ class NewsControllerTest {
 
             User writer = UserTestFactory.buildOne("WriterTest", UserRole.WRITER);
 
-            when(newsService.delete(newsId)).thenThrow(new NewsNotFoundException("News Not Found"));
+            when(newsService.delete(newsId,null)).thenThrow(new NewsNotFoundException("News Not Found"));
 
             //Act / Assert
             mockMvc.perform(delete("/news-api/news/{newsId}", newsId)
@@ -815,7 +1584,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).delete(newsId);
+            verify(newsService).delete(newsId,null);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -826,7 +1595,7 @@ class NewsControllerTest {
             //Arrange
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
 
-            when(newsService.delete(newsId)).thenThrow(new BelongsToAnotherWriterException("You are not authorized to delete this news because it belongs to another user."));
+            when(newsService.delete(newsId,null)).thenThrow(new BelongsToAnotherWriterException("You are not authorized to delete this news because it belongs to another user."));
             //Act / Assert
             mockMvc.perform(delete("/news-api/news/{newsId}", newsId)
                     .with(user("NotOwner").roles("WRITER"))
@@ -837,7 +1606,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService).delete(newsId);
+            verify(newsService).delete(newsId,null);
 
             verifyNoMoreInteractions(newsService);
         }
@@ -855,7 +1624,7 @@ class NewsControllerTest {
             );
 
             //Assert
-            verify(newsService,never()).delete(any());
+            verify(newsService,never()).delete(any(),any());
         }
 
         @Test
@@ -871,7 +1640,7 @@ class NewsControllerTest {
             ).andExpect(MockMvcResultMatchers.status().isForbidden());
 
             //Assert
-            verify(newsService,never()).delete(any());
+            verify(newsService,never()).delete(any(),any());
         }
 
         @Test
@@ -886,7 +1655,7 @@ class NewsControllerTest {
             ).andExpect(MockMvcResultMatchers.status().isUnauthorized());
 
             //Assert
-            verify(newsService,never()).delete(any());
+            verify(newsService,never()).delete(any(),any());
         }
     }
 
@@ -3,9 +3,11 @@ package com.example.NewsAPI.controllers;
 import com.example.NewsAPI.domain.infra.security.SecurityConfiguration;
 import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.services.TokenService;
+import com.example.NewsAPI.domain.services.UserCacheService;
 import com.example.NewsAPI.domain.services.UserService;
 import com.example.NewsAPI.domain.user.*;
 import com.example.NewsAPI.exception.IncorrectLoginCredentialsException;
+import com.example.NewsAPI.exception.PasswordHashingSaturatedException;
 import com.example.NewsAPI.exception.TokenGenerationException;
 import com.example.NewsAPI.exception.UserAlreadyRegisteredException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -42,6 +45,9 @@ class UserControllerTest {
     @MockitoBean
     TokenService tokenService;
 
+    @MockitoBean
+    UserCacheService userCacheService;
+
     @Nested
     class register{
         @Test
@@ -193,6 +199,32 @@ class UserControllerTest {
             verifyNoMoreInteractions(userService);
         }
 
+        @Test
+        @DisplayName("Should return 429 Too Many Requests with Retry-After when the password hashing pool is saturated")
+        void loginTest429PasswordHashingSaturatedFailure() throws Exception{
+            //Arrange
+            String username = "UserTest";
+            String password = "12345";
+
+            LoginRequestDTO loginData = new LoginRequestDTO(username,password);
+
+            when(userService.login(loginData)).thenThrow(PasswordHashingSaturatedException.class);
+            //Act / Assert
+            mockMvc.perform(post("/news-api/user/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginData))
+            ).andExpectAll(
+                    MockMvcResultMatchers.status().isTooManyRequests(),
+                    MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER,"1"),
+                    MockMvcResultMatchers.content().string("Too many authentication requests at the moment. Try again shortly.")
+            );
+
+            //Assert
+            verify(userService).login(loginData);
+
+            verifyNoMoreInteractions(userService);
+        }
+
         @Test
         @DisplayName("Should return 400 when null parameters is sent")
         void loginTest400NullParamsFailure() throws Exception{
@@ -0,0 +1,161 @@
+package com.example.NewsAPI.domain.infra.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseBulkheadFilterTest {
+
+    DatabaseBulkheadFilter databaseBulkheadFilter;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+
+        databaseBulkheadFilter = new DatabaseBulkheadFilter();
+        databaseBulkheadFilter.meterRegistryProvider = meterRegistryProvider;
+        databaseBulkheadFilter.maxConcurrent = 1;
+        databaseBulkheadFilter.maxWait = Duration.ofMillis(10);
+        databaseBulkheadFilter.init();
+    }
+
+    @Nested
+    class doFilter{
+        @Test
+        @DisplayName("Should admit an API request and release its permit afterwards")
+        void doFilterTestAdmitSuccess() throws Exception {
+            //Arrange
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            //Act
+            databaseBulkheadFilter.doFilter(new MockHttpServletRequest("GET","/news-api/news"),response,chain);
+
+            //Assert
+            assertEquals(200,response.getStatus());
+            assertNotNull(chain.getRequest());
+            assertEquals(1,databaseBulkheadFilter.permits.availablePermits());
+            assertEquals(1.0,meterRegistry.get("database.bulkhead.requests").tag("outcome","admitted").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should return 503 Service Unavailable with Retry-After when every permit is taken")
+        void doFilterTest503ServiceUnavailableFailure() throws Exception {
+            //Arrange
+            databaseBulkheadFilter.permits.acquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            //Act
+            databaseBulkheadFilter.doFilter(new MockHttpServletRequest("GET","/news-api/news"),response,chain);
+
+            //Assert
+            assertEquals(503,response.getStatus());
+            assertEquals("1",response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertNull(chain.getRequest());
+            assertEquals(1.0,meterRegistry.get("database.bulkhead.requests").tag("outcome","rejected").counter().count());
+            assertEquals(1.0,meterRegistry.get("database.bulkhead.active").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should release the permit when the request fails")
+        void doFilterTestReleaseOnFailure(){
+            //Arrange
+            FilterChain failingChain = (request, response) -> { throw new ServletException("Failure"); };
+
+            //Act
+            assertThrows(ServletException.class,() -> databaseBulkheadFilter.doFilter(new MockHttpServletRequest("GET","/news-api/news"),new MockHttpServletResponse(),failingChain));
+
+            //Assert
+            assertEquals(1,databaseBulkheadFilter.permits.availablePermits());
+        }
+
+        @Test
+        @DisplayName("Should hold the permit of an async request until the async work completes")
+        void doFilterTestAsyncReleaseOnComplete() throws Exception {
+            //Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET","/news-api/news/stream");
+            request.setAsyncSupported(true);
+            FilterChain asyncChain = (chainRequest, chainResponse) -> chainRequest.startAsync();
+
+            //Act
+            databaseBulkheadFilter.doFilter(request,new MockHttpServletResponse(),asyncChain);
+
+            //Assert
+            assertEquals(0,databaseBulkheadFilter.permits.availablePermits());
+
+            ((MockAsyncContext) request.getAsyncContext()).complete();
+            assertEquals(1,databaseBulkheadFilter.permits.availablePermits());
+        }
+
+        @Test
+        @DisplayName("Should release the permit of an async request only once when it errors and then completes")
+        void doFilterTestAsyncReleaseOnError() throws Exception {
+            //Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET","/news-api/news/stream");
+            request.setAsyncSupported(true);
+            FilterChain asyncChain = (chainRequest, chainResponse) -> chainRequest.startAsync();
+            databaseBulkheadFilter.doFilter(request,new MockHttpServletResponse(),asyncChain);
+            MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+            //Act
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                listener.onError(new AsyncEvent(asyncContext,new IOException("Broken pipe")));
+            }
+            asyncContext.complete();
+
+            //Assert
+            assertEquals(1,databaseBulkheadFilter.permits.availablePermits());
+        }
+
+        @Test
+        @DisplayName("Should run ahead of the security chain so the user lookups take a permit")
+        void doFilterTestOrderedBeforeSecuritySuccess(){
+            //Assert
+            assertTrue(OrderUtils.getOrder(DatabaseBulkheadFilter.class,Ordered.LOWEST_PRECEDENCE) < SecurityProperties.DEFAULT_FILTER_ORDER);
+        }
+
+        @Test
+        @DisplayName("Should not hold back requests outside the API while every permit is taken")
+        void doFilterTestNonApiRequestSuccess() throws Exception {
+            //Arrange
+            databaseBulkheadFilter.permits.acquire();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            //Act
+            databaseBulkheadFilter.doFilter(new MockHttpServletRequest("GET","/actuator/health"),response,chain);
+
+            //Assert
+            assertEquals(200,response.getStatus());
+            assertNotNull(chain.getRequest());
+        }
+    }
+}
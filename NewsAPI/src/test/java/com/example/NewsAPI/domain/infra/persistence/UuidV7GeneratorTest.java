@@ -0,0 +1,83 @@
+package com.example.NewsAPI.domain.infra.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Nested
+    class next {
+        @Test
+        @DisplayName("Should generate a version 7, IETF variant UUID carrying the current unix time in milliseconds")
+        void nextTestVersionAndTimestamp() {
+            //Arrange
+            long before = System.currentTimeMillis();
+
+            //Act
+            UUID uuid = UuidV7Generator.next();
+
+            //Assert
+            long after = System.currentTimeMillis();
+            long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(timestamp).isBetween(before, after + 1);
+        }
+
+        @Test
+        @DisplayName("Should generate strictly increasing UUIDs, even within the same millisecond")
+        void nextTestMonotonic() {
+            //Arrange
+            List<UUID> uuids = new ArrayList<>();
+
+            //Act
+            for (int i = 0; i < 10_000; i++) {
+                uuids.add(UuidV7Generator.next());
+            }
+
+            //Assert
+            assertThat(uuids)
+                    .doesNotHaveDuplicates()
+                    .isSortedAccordingTo(Comparator.comparing(UUID::toString));
+        }
+
+        @Test
+        @DisplayName("Should not generate duplicated UUIDs when called from concurrent threads")
+        void nextTestConcurrentUniqueness() throws Exception {
+            //Arrange
+            Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            //Act
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        uuids.add(UuidV7Generator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            //Assert
+            assertThat(uuids).hasSize(40_000);
+        }
+    }
+}
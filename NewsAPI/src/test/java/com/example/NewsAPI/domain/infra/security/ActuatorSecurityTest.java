@@ -0,0 +1,47 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should return 200 OK when a writer reads the metrics endpoint")
+    void metricsTestWriterSuccess() throws Exception {
+        //Act / Assert
+        mockMvc.perform(get("/actuator/metrics").with(user("WriterTest").roles("WRITER")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when a reader tries to read the metrics endpoints")
+    void metricsTest403ForbiddenFailure() throws Exception {
+        //Act / Assert
+        mockMvc.perform(get("/actuator/metrics").with(user("ReaderTest").roles("READER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").with(user("ReaderTest").roles("READER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should return 401 Unauthorized when try to read the metrics endpoint without authentication token")
+    void metricsTest401UnauthorizedFailure() throws Exception {
+        //Act / Assert
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
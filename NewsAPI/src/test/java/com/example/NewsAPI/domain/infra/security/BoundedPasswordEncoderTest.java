@@ -0,0 +1,148 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import com.example.NewsAPI.exception.PasswordHashingSaturatedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    BoundedPasswordEncoder boundedPasswordEncoder;
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown(){
+        if (boundedPasswordEncoder != null){
+            boundedPasswordEncoder.close();
+        }
+    }
+
+    @Nested
+    class encodeAndMatches{
+        @Test
+        @DisplayName("Should hash on the pool with the configured cost and match the raw password")
+        void encodeAndMatchesTestSuccess(){
+            //Arrange
+            boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),1,1,Duration.ofSeconds(5),meterRegistry);
+
+            //Act
+            String encodedPassword = boundedPasswordEncoder.encode("12345");
+
+            //Assert
+            assertTrue(encodedPassword.startsWith("$2a$04$"));
+            assertTrue(boundedPasswordEncoder.matches("12345",encodedPassword));
+            assertFalse(boundedPasswordEncoder.matches("54321",encodedPassword));
+            assertEquals(1,meterRegistry.get("auth.step").tag("step","password.encode").timer().count());
+            assertEquals(2,meterRegistry.get("auth.step").tag("step","password.match").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should throw PasswordHashingSaturatedException when the workers and the queue are full")
+        void matchesTestPasswordHashingSaturatedExceptionFailure() throws Exception{
+            //Arrange
+            PasswordEncoder delegate = mock(PasswordEncoder.class);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            boundedPasswordEncoder = new BoundedPasswordEncoder(delegate,1,0,Duration.ofSeconds(5),meterRegistry);
+
+            when(delegate.matches("12345","hash")).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return true;
+            });
+
+            ExecutorService caller = Executors.newSingleThreadExecutor();
+            try {
+                caller.submit(() -> boundedPasswordEncoder.matches("12345","hash"));
+                assertTrue(started.await(5,TimeUnit.SECONDS));
+
+                //Act / Assert
+                assertThrows(PasswordHashingSaturatedException.class,
+                        () -> boundedPasswordEncoder.matches("12345","hash"));
+            } finally {
+                release.countDown();
+                caller.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw PasswordHashingSaturatedException when the task waits in the queue longer than the timeout")
+        void encodeTestQueueTimeoutFailure() throws Exception{
+            //Arrange
+            PasswordEncoder delegate = mock(PasswordEncoder.class);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            boundedPasswordEncoder = new BoundedPasswordEncoder(delegate,1,1,Duration.ofMillis(50),meterRegistry);
+
+            when(delegate.encode("12345")).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return "hash";
+            });
+
+            ExecutorService caller = Executors.newSingleThreadExecutor();
+            try {
+                caller.submit(() -> boundedPasswordEncoder.encode("12345"));
+                assertTrue(started.await(5,TimeUnit.SECONDS));
+
+                //Act / Assert
+                assertThrows(PasswordHashingSaturatedException.class,
+                        () -> boundedPasswordEncoder.encode("12345"));
+            } finally {
+                release.countDown();
+                caller.shutdown();
+            }
+
+            //Assert
+            verify(delegate,times(1)).encode("12345");
+        }
+
+        @Test
+        @DisplayName("Should wait for a hash that already started even when it runs longer than the timeout")
+        void encodeTestStartedHashOutlivesTimeoutSuccess(){
+            //Arrange
+            PasswordEncoder delegate = mock(PasswordEncoder.class);
+            boundedPasswordEncoder = new BoundedPasswordEncoder(delegate,1,1,Duration.ofMillis(50),meterRegistry);
+
+            when(delegate.encode("12345")).thenAnswer(invocation -> {
+                Thread.sleep(200);
+                return "hash";
+            });
+
+            //Act / Assert
+            assertEquals("hash",boundedPasswordEncoder.encode("12345"));
+        }
+    }
+
+    @Nested
+    class upgradeEncoding{
+        @Test
+        @DisplayName("Should ask for a rehash whenever the stored cost differs from the configured one")
+        void upgradeEncodingTestSuccess(){
+            //Arrange
+            String lowCostHash = new BCryptPasswordEncoder(4).encode("12345");
+            String highCostHash = new BCryptPasswordEncoder(6).encode("12345");
+            boundedPasswordEncoder = new BoundedPasswordEncoder(new CostAwareBCryptPasswordEncoder(5),1,1,Duration.ofSeconds(5),meterRegistry);
+
+            //Act / Assert
+            assertTrue(boundedPasswordEncoder.upgradeEncoding(lowCostHash));
+            assertTrue(boundedPasswordEncoder.upgradeEncoding(highCostHash));
+            assertFalse(boundedPasswordEncoder.upgradeEncoding(boundedPasswordEncoder.encode("12345")));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    RateLimitFilter rateLimitFilter;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+
+        rateLimitFilter = new RateLimitFilter();
+        rateLimitFilter.meterRegistryProvider = meterRegistryProvider;
+        rateLimitFilter.enabled = true;
+        rateLimitFilter.expensiveCapacity = 2;
+        rateLimitFilter.expensiveRefillPerSecond = 0.001;
+        rateLimitFilter.cheapCapacity = 5;
+        rateLimitFilter.cheapRefillPerSecond = 0.001;
+        rateLimitFilter.maxClients = 100;
+        rateLimitFilter.idleExpiry = Duration.ofMinutes(10);
+        rateLimitFilter.init();
+    }
+
+    @AfterEach
+    void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class classify{
+        @Test
+        @DisplayName("Should treat login, register and the unpaged listing as expensive")
+        void classifyTestExpensive(){
+            assertEquals(RateLimitFilter.Tier.EXPENSIVE,rateLimitFilter.classify(new MockHttpServletRequest("POST","/news-api/user/login")));
+            assertEquals(RateLimitFilter.Tier.EXPENSIVE,rateLimitFilter.classify(new MockHttpServletRequest("POST","/news-api/user/register")));
+            assertEquals(RateLimitFilter.Tier.EXPENSIVE,rateLimitFilter.classify(new MockHttpServletRequest("GET","/news-api/news")));
+
+            MockHttpServletRequest nonPositivePageSize = new MockHttpServletRequest("GET","/news-api/news");
+            nonPositivePageSize.setParameter("pageSize","0");
+            assertEquals(RateLimitFilter.Tier.EXPENSIVE,rateLimitFilter.classify(nonPositivePageSize));
+        }
+
+        @Test
+        @DisplayName("Should treat paged listings and single-article requests as cheap")
+        void classifyTestCheap(){
+            MockHttpServletRequest paged = new MockHttpServletRequest("GET","/news-api/news");
+            paged.setParameter("pageSize","10");
+
+            assertEquals(RateLimitFilter.Tier.CHEAP,rateLimitFilter.classify(paged));
+            assertEquals(RateLimitFilter.Tier.CHEAP,rateLimitFilter.classify(new MockHttpServletRequest("GET","/news-api/news/0190a4d2-0000-7000-8000-000000000000")));
+            assertEquals(RateLimitFilter.Tier.CHEAP,rateLimitFilter.classify(new MockHttpServletRequest("POST","/news-api/news")));
+        }
+    }
+
+    @Nested
+    class doFilter{
+        @Test
+        @DisplayName("Should return 429 with Retry-After once the expensive budget of an IP is spent")
+        void doFilterTestExpensiveBudgetExhausted() throws Exception{
+            //Act
+            MockHttpServletResponse first = login("10.0.0.1");
+            MockHttpServletResponse second = login("10.0.0.1");
+            MockHttpServletResponse third = login("10.0.0.1");
+            MockHttpServletResponse otherClient = login("10.0.0.2");
+
+            //Assert
+            assertEquals(200,first.getStatus());
+            assertEquals(200,second.getStatus());
+            assertEquals(429,third.getStatus());
+            assertNotNull(third.getHeader(HttpHeaders.RETRY_AFTER));
+            assertTrue(Long.parseLong(third.getHeader(HttpHeaders.RETRY_AFTER)) >= 1);
+            assertEquals(200,otherClient.getStatus());
+
+            assertEquals(3,meterRegistry.get("ratelimit.requests").tag("tier","expensive").tag("outcome","allowed").counter().count());
+            assertEquals(1,meterRegistry.get("ratelimit.requests").tag("tier","expensive").tag("outcome","rejected").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should key authenticated requests by username and keep the cheap budget separate")
+        void doFilterTestKeyedByUsername() throws Exception{
+            //Arrange
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("writer",null,List.of(new SimpleGrantedAuthority("ROLE_WRITER"))));
+
+            //Act
+            int allowedCheap = 0;
+            for (int i = 0; i < 6; i++){
+                MockHttpServletRequest request = new MockHttpServletRequest("GET","/news-api/news/0190a4d2-0000-7000-8000-000000000000");
+                request.setRemoteAddr("10.0.0." + i);
+                if (filter(request).getStatus() == 200){
+                    allowedCheap++;
+                }
+            }
+            MockHttpServletResponse expensive = filter(new MockHttpServletRequest("GET","/news-api/news"));
+
+            //Assert
+            assertEquals(5,allowedCheap);
+            assertEquals(200,expensive.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should let every request through when rate limiting is disabled")
+        void doFilterTestDisabled() throws Exception{
+            //Arrange
+            rateLimitFilter.enabled = false;
+
+            //Act / Assert
+            for (int i = 0; i < 5; i++){
+                assertEquals(200,login("10.0.0.1").getStatus());
+            }
+        }
+    }
+
+    private MockHttpServletResponse login(String remoteAddr) throws Exception{
+        MockHttpServletRequest request = new MockHttpServletRequest("POST","/news-api/user/login");
+        request.setRemoteAddr(remoteAddr);
+        return filter(request);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception{
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request,response,new MockFilterChain());
+        return response;
+    }
+}
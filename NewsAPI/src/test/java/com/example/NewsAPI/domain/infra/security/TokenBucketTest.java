@@ -0,0 +1,92 @@
+package com.example.NewsAPI.domain.infra.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Should allow a burst up to the capacity and then report the wait for the next token")
+    void tryConsumeTestBurstThenWait(){
+        //Arrange
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(3,1,clock::get);
+
+        //Act / Assert
+        assertEquals(0,tokenBucket.tryConsume());
+        assertEquals(0,tokenBucket.tryConsume());
+        assertEquals(0,tokenBucket.tryConsume());
+        assertEquals(TimeUnit.SECONDS.toNanos(1),tokenBucket.tryConsume());
+    }
+
+    @Test
+    @DisplayName("Should refill tokens as time passes without exceeding the capacity")
+    void tryConsumeTestRefill(){
+        //Arrange
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(2,2,clock::get);
+        tokenBucket.tryConsume();
+        tokenBucket.tryConsume();
+
+        //Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        long afterOneToken = tokenBucket.tryConsume();
+        long empty = tokenBucket.tryConsume();
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        int allowedAfterIdle = 0;
+        while (tokenBucket.tryConsume() == 0){
+            allowedAfterIdle++;
+        }
+
+        //Assert
+        assertEquals(0,afterOneToken);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500),empty);
+        assertEquals(2,allowedAfterIdle);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the capacity when many threads race for the tokens")
+    void tryConsumeTestConcurrentCallers() throws Exception{
+        //Arrange
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(100,1,clock::get);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //Act
+        for (int i = 0; i < 8; i++){
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 50; j++){
+                    if (tokenBucket.tryConsume() == 0){
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        //Assert
+        assertTrue(executor.awaitTermination(5,TimeUnit.SECONDS));
+        assertEquals(100,allowed.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity or refill rate")
+    void constructorTestInvalidArguments(){
+        assertThrows(IllegalArgumentException.class,() -> new TokenBucket(0,1,System::nanoTime));
+        assertThrows(IllegalArgumentException.class,() -> new TokenBucket(1,0,System::nanoTime));
+    }
+}
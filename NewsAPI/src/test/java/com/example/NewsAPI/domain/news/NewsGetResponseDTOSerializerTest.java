@@ -0,0 +1,43 @@
+package com.example.NewsAPI.domain.news;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsGetResponseDTOSerializerTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write publishedAt as a Sao Paulo offset string even on a mapper that writes dates as timestamps")
+    void serializeTestIsoDate() throws Exception {
+        //Arrange
+        NewsGetResponseDTO news = new NewsGetResponseDTO(UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379"),"TitleTest","BodyTest",Date.from(Instant.parse("2025-11-06T00:00:00Z")),"UserTest");
+
+        //Act
+        String json = objectMapper.writeValueAsString(news);
+
+        //Assert
+        assertEquals("{\"id\":\"9a3acd51-2143-4a33-81a5-6ea065285379\",\"title\":\"TitleTest\",\"body\":\"BodyTest\",\"publishedAt\":\"2025-11-05T21:00:00.000-03:00\",\"writer\":\"UserTest\"}",json);
+    }
+
+    @Test
+    @DisplayName("Should omit a null body and write publishedAt as epoch millis when the epoch millis attribute is set")
+    void serializeTestEpochMillisWithoutBody() throws Exception {
+        //Arrange
+        Instant publishedAt = Instant.parse("2025-11-06T00:00:00Z");
+        NewsGetResponseDTO news = new NewsGetResponseDTO(UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379"),"TitleTest",null,Date.from(publishedAt),"UserTest");
+
+        //Act
+        String json = objectMapper.writer().withAttribute(PublishedAtSerializer.EPOCH_MILLIS_ATTRIBUTE,true).writeValueAsString(news);
+
+        //Assert
+        assertEquals("{\"id\":\"9a3acd51-2143-4a33-81a5-6ea065285379\",\"title\":\"TitleTest\",\"publishedAt\":" + publishedAt.toEpochMilli() + ",\"writer\":\"UserTest\"}",json);
+    }
+}
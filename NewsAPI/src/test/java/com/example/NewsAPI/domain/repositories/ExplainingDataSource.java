@@ -0,0 +1,136 @@
+package com.example.NewsAPI.domain.repositories;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Runs EXPLAIN (ANALYZE, BUFFERS) for every SELECT the repositories prepare, with the exact SQL
+// Hibernate generated and the parameters it bound, so plan tests assert on the real queries
+// rather than on hand-written copies of them.
+class ExplainingDataSource extends DelegatingDataSource {
+    private final List<Plan> plans = new CopyOnWriteArrayList<>();
+
+    ExplainingDataSource(DataSource targetDataSource){
+        super(targetDataSource);
+    }
+
+    List<Plan> plans(){
+        return List.copyOf(plans);
+    }
+
+    Plan lastPlan(){
+        if (plans.isEmpty()) {
+            throw new IllegalStateException("No SELECT was explained");
+        }
+        return plans.get(plans.size() - 1);
+    }
+
+    void clear(){
+        plans.clear();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return explainingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return explainingConnection(super.getConnection(username, password));
+    }
+
+    private Connection explainingConnection(Connection connection){
+        return (Connection) Proxy.newProxyInstance(ExplainingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && args[0] instanceof String sql && isSelect(sql)) {
+                return explainingStatement(connection, (PreparedStatement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement explainingStatement(Connection connection, PreparedStatement statement, String sql){
+        List<Binding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(ExplainingDataSource.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args));
+            } else if (method.getName().equals("clearParameters")) {
+                bindings.clear();
+            } else if (method.getName().startsWith("execute")) {
+                plans.add(new Plan(sql, explain(connection, sql, bindings)));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static String explain(Connection connection, String sql, List<Binding> bindings) throws Throwable {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+            for (Binding binding : bindings) {
+                invoke(explain, binding.method(), binding.args());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static boolean isSelect(String sql){
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception){
+            throw exception.getTargetException();
+        }
+    }
+
+    record Plan(String sql, String plan) {
+        double executionMillis(){
+            int start = plan.indexOf("Execution Time: ");
+            if (start < 0) {
+                throw new IllegalStateException("The plan has no execution time:\n" + plan);
+            }
+            start += "Execution Time: ".length();
+            return Double.parseDouble(plan.substring(start, plan.indexOf(" ms", start)));
+        }
+    }
+
+    private record Binding(Method method, Object[] args) { }
+
+    @TestConfiguration
+    static class Configuration {
+        @Bean
+        static BeanPostProcessor explainingDataSourcePostProcessor(){
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ExplainingDataSource)){
+                        return new ExplainingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.NewsAPI.domain.repositories;
+
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Explains the SQL the listing and login queries really send, with the parameters they bind,
+// against the V4 indexes on PostgreSQL. The optional filters are written as "IS NULL OR" guards,
+// which only fold away in a custom plan, so the pool pins plan_cache_mode to keep it that way
+// after the driver switches to server side prepared statements.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExplainingDataSource.Configuration.class)
+class IndexPlanTest {
+    private static final int WRITERS = 50;
+    private static final int NEWS_PER_WRITER = 1_000;
+    private static final int READERS = 5_000;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry){
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ExplainingDataSource explainingDataSource;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void seed(){
+        entityManager.createNativeQuery("INSERT INTO users (id, username, password, role) " +
+                        "SELECT gen_random_uuid(), 'PlanUser' || i, 'password', CASE WHEN i <= " + WRITERS + " THEN '0' ELSE '1' END " +
+                        "FROM generate_series(1, " + (WRITERS + READERS) + ") AS i")
+                .executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO news (id, title, body, writer_id, published_at, updated_at) " +
+                        "SELECT gen_random_uuid(), 'Plan news ' || u.username || ' number ' || i, 'BodyTest', u.id, " +
+                        "TIMESTAMP '2025-01-01 00:00:00' + (i * " + WRITERS + " + row_number() OVER ()) * INTERVAL '1 minute', TIMESTAMP '2025-01-01 00:00:00' " +
+                        "FROM users u, generate_series(1, " + NEWS_PER_WRITER + ") AS i WHERE u.role = '0'")
+                .executeUpdate();
+        entityManager.createNativeQuery("ANALYZE users").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE news").executeUpdate();
+        explainingDataSource.clear();
+    }
+
+    @Test
+    @DisplayName("Should read the writer and publication date index for the paged listing filtered by writer and day")
+    void findNewsTestWriterAndDateRangeIndexScanSuccess(){
+        //Act
+        Page<NewsGetResponseDTO> newsReturned = newsRepository.findNews(null,"PlanUser7",date("2025-01-10T00:00:00Z"),date("2025-01-11T00:00:00Z"),true,PageRequest.of(0,5));
+
+        //Assert
+        assertEquals(5,newsReturned.getContent().size());
+        assertThat(explainingDataSource.plans())
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan.plan()).contains("ix_news_writer_id_published_at").doesNotContain("Seq Scan on news"));
+    }
+
+    @Test
+    @DisplayName("Should read the publication date index in order for the first cursor page instead of sorting the news")
+    void findFirstNewsTestIndexSortedSuccess(){
+        //Act
+        List<NewsGetResponseDTO> newsReturned = newsRepository.findFirstNews(null,null,null,null,true,Limit.of(21));
+
+        //Assert
+        assertEquals(21,newsReturned.size());
+        assertThat(explainingDataSource.lastPlan().plan()).contains("Index Scan using ix_news_published_at_id").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Should seek the publication date index when reading the page after a cursor")
+    void findNewsAfterTestCursorSeekSuccess(){
+        //Act
+        List<NewsGetResponseDTO> newsReturned = newsRepository.findNewsAfter(null,null,null,null,date("2025-01-20T00:00:00Z"),UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379"),true,Limit.of(21));
+
+        //Assert
+        assertEquals(21,newsReturned.size());
+        assertThat(explainingDataSource.lastPlan().plan()).contains("Index Scan using ix_news_published_at_id").contains("Index Cond").doesNotContain("Sort Key");
+    }
+
+    @Test
+    @DisplayName("Should use the V4 trigram index for the title filter")
+    void findNewsTestTitleTrigramIndexSuccess(){
+        //Act
+        List<NewsGetResponseDTO> newsReturned = newsRepository.findNews("PlanUser7 number 999",null,null,null,true);
+
+        //Assert
+        assertEquals(1,newsReturned.size());
+        assertThat(explainingDataSource.lastPlan().plan()).contains("Bitmap Index Scan on ix_news_title_trgm");
+    }
+
+    @Test
+    @DisplayName("Should use the unique username index when looking up a user")
+    void findByUsernameTestIndexScanSuccess(){
+        //Act
+        assertNotNull(userRepository.findByUsername("PlanUser4242"));
+
+        //Assert
+        assertThat(explainingDataSource.lastPlan().plan()).contains("ux_users_username");
+    }
+
+    @Test
+    @DisplayName("Should keep custom plans once the driver reuses the listing statement")
+    void findNewsTestCustomPlanAfterPrepareThresholdSuccess(){
+        //Act
+        for (int i = 0; i < 10; i++){
+            newsRepository.findNews(null,"PlanUser7",null,null,true);
+        }
+
+        //Assert
+        assertEquals("force_custom_plan",entityManager.createNativeQuery("SHOW plan_cache_mode").getSingleResult());
+    }
+
+    private static Date date(String instant){
+        return Date.from(Instant.parse(instant));
+    }
+}
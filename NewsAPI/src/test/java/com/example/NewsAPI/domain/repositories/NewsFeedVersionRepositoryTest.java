@@ -0,0 +1,55 @@
+package com.example.NewsAPI.domain.repositories;
+
+import com.example.NewsAPI.domain.news.NewsFeedVersion;
+import com.example.NewsAPI.domain.news.NewsFeedVersionView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class NewsFeedVersionRepositoryTest {
+    @Autowired
+    NewsFeedVersionRepository newsFeedVersionRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Nested
+    class findFeedVersion{
+        @Test
+        @DisplayName("Should sum the change counter shards and return the latest shard timestamp")
+        void findFeedVersionTestSuccess(){
+            //Arrange
+            entityManager.persist(new NewsFeedVersion((short) 1,3L,Instant.parse("2025-11-06T10:00:00Z")));
+            entityManager.persist(new NewsFeedVersion((short) 2,5L,Instant.parse("2025-11-06T11:00:00Z")));
+            entityManager.persist(new NewsFeedVersion((short) 3,0L,Instant.parse("2025-11-06T09:00:00Z")));
+            entityManager.flush();
+
+            //Act
+            NewsFeedVersionView feedReturned = newsFeedVersionRepository.findFeedVersion();
+
+            //Assert
+            assertEquals(8L,feedReturned.getVersion());
+            assertEquals(Instant.parse("2025-11-06T11:00:00Z"),feedReturned.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("Should return an empty version when there are no shards")
+        void findFeedVersionTestEmptySuccess(){
+            //Act
+            NewsFeedVersionView feedReturned = newsFeedVersionRepository.findFeedVersion();
+
+            //Assert
+            assertNull(feedReturned.getVersion());
+        }
+    }
+}
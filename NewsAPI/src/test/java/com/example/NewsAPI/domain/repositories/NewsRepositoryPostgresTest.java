@@ -0,0 +1,225 @@
+package com.example.NewsAPI.domain.repositories;
+
+import com.example.NewsAPI.domain.news.DeletedNewsView;
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsSearchResponseDTO;
+import com.example.NewsAPI.domain.news.NewsSearchView;
+import com.example.NewsAPI.domain.news.PatchedNewsView;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import com.example.NewsAPI.factory.UserTestFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NewsRepositoryPostgresTest {
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry){
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    NewsFeedVersionRepository newsFeedVersionRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Nested
+    class patchNewsReturning{
+        @Test
+        @DisplayName("Should update only the sent columns and return the patched row with its new version")
+        void patchNewsReturningTestSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer);
+            Date updatedAt = Date.from(Instant.parse("2025-11-13T10:00:00Z"));
+
+            //Act
+            Optional<PatchedNewsView> newsReturned = newsRepository.patchNewsReturning(news.getId(),writer.getId(),"TitleTestUpdated",null,updatedAt,news.getVersion());
+
+            //Assert
+            assertTrue(newsReturned.isPresent());
+            assertThat(newsReturned.get())
+                    .extracting(PatchedNewsView::getId,PatchedNewsView::getTitle,PatchedNewsView::getBody,patched -> patched.getUpdatedAt().toInstant(),PatchedNewsView::getVersion)
+                    .containsExactly(news.getId(),"TitleTestUpdated",news.getBody(),updatedAt.toInstant(),1L);
+
+            entityManager.clear();
+            assertEquals("TitleTestUpdated",entityManager.find(News.class,news.getId()).getTitle());
+        }
+
+        @Test
+        @DisplayName("Should bump the stored version and updated_at, keep the unsent columns and the feed counter in step")
+        void patchNewsReturningTestStoredRowSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer);
+            long feedVersionBefore = newsFeedVersionRepository.findFeedVersion().getVersion();
+            Date firstUpdate = Date.from(Instant.parse("2025-11-13T10:00:00Z"));
+            Date secondUpdate = Date.from(Instant.parse("2025-11-13T11:00:00Z"));
+
+            //Act
+            PatchedNewsView firstPatch = newsRepository.patchNewsReturning(news.getId(),writer.getId(),null,"BodyTestUpdated",firstUpdate,news.getVersion()).orElseThrow();
+            PatchedNewsView secondPatch = newsRepository.patchNewsReturning(news.getId(),writer.getId(),"TitleTestUpdated","BodyTestUpdatedAgain",secondUpdate,firstPatch.getVersion()).orElseThrow();
+
+            //Assert
+            assertEquals(1L,firstPatch.getVersion());
+            assertEquals("TitleTest",firstPatch.getTitle());
+            assertEquals(2L,secondPatch.getVersion());
+            assertEquals(news.getPublishedAt().toInstant(),secondPatch.getPublishedAt().toInstant());
+
+            entityManager.clear();
+            News stored = entityManager.find(News.class,news.getId());
+            assertThat(stored)
+                    .extracting(News::getTitle,News::getBody,News::getVersion,saved -> saved.getUpdatedAt().toInstant(),saved -> saved.getPublishedAt().toInstant())
+                    .containsExactly("TitleTestUpdated","BodyTestUpdatedAgain",2L,secondUpdate.toInstant(),news.getPublishedAt().toInstant());
+            assertEquals(feedVersionBefore + 2,newsFeedVersionRepository.findFeedVersion().getVersion());
+        }
+
+        @Test
+        @DisplayName("Should not update any row when the expected version is stale")
+        void patchNewsReturningTestStaleVersionSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer);
+
+            //Act
+            Optional<PatchedNewsView> newsReturned = newsRepository.patchNewsReturning(news.getId(),writer.getId(),"TitleTestUpdated",null,new Date(),news.getVersion() + 1);
+
+            //Assert
+            assertTrue(newsReturned.isEmpty());
+            entityManager.clear();
+            assertEquals("TitleTest",entityManager.find(News.class,news.getId()).getTitle());
+        }
+
+        @Test
+        @DisplayName("Should not update any row when the news belongs to another writer")
+        void patchNewsReturningTestAnotherWriterSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            User anotherWriter = buildAndPersistsUser("AnotherWriter");
+            News news = buildAndPersistsNews("TitleTest",writer);
+
+            //Act
+            Optional<PatchedNewsView> newsReturned = newsRepository.patchNewsReturning(news.getId(),anotherWriter.getId(),null,"BodyTestUpdated",new Date(),null);
+
+            //Assert
+            assertTrue(newsReturned.isEmpty());
+            entityManager.clear();
+            assertEquals("BodyTest",entityManager.find(News.class,news.getId()).getBody());
+        }
+    }
+
+    @Nested
+    class deleteNewsReturning{
+        @Test
+        @DisplayName("Should delete the news and return the deleted row")
+        void deleteNewsReturningTestSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer);
+
+            //Act
+            Optional<DeletedNewsView> newsReturned = newsRepository.deleteNewsReturning(news.getId(),writer.getId(),news.getVersion());
+
+            //Assert
+            assertTrue(newsReturned.isPresent());
+            assertThat(newsReturned.get())
+                    .extracting(DeletedNewsView::getId,DeletedNewsView::getTitle,DeletedNewsView::getBody,deleted -> deleted.getPublishedAt().toInstant())
+                    .containsExactly(news.getId(),"TitleTest",news.getBody(),news.getPublishedAt().toInstant());
+
+            entityManager.clear();
+            assertNull(entityManager.find(News.class,news.getId()));
+        }
+
+        @Test
+        @DisplayName("Should not delete any row when the expected version is stale")
+        void deleteNewsReturningTestStaleVersionSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer);
+
+            //Act
+            Optional<DeletedNewsView> newsReturned = newsRepository.deleteNewsReturning(news.getId(),writer.getId(),news.getVersion() + 1);
+
+            //Assert
+            assertTrue(newsReturned.isEmpty());
+            entityManager.clear();
+            assertNotNull(entityManager.find(News.class,news.getId()));
+        }
+
+        @Test
+        @DisplayName("Should not delete any row when the news belongs to another writer")
+        void deleteNewsReturningTestAnotherWriterSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            User anotherWriter = buildAndPersistsUser("AnotherWriter");
+            News news = buildAndPersistsNews("TitleTest",writer);
+
+            //Act
+            Optional<DeletedNewsView> newsReturned = newsRepository.deleteNewsReturning(news.getId(),anotherWriter.getId(),null);
+
+            //Assert
+            assertTrue(newsReturned.isEmpty());
+            entityManager.clear();
+            assertNotNull(entityManager.find(News.class,news.getId()));
+        }
+    }
+
+    @Nested
+    class searchNews{
+        @Test
+        @DisplayName("Should highlight the matched terms with sentinels that survive HTML escaping of the stored text")
+        void searchNewsTestEscapedHighlightSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = NewsTestFactory.buildOneWithoutId("<script>alert(1)</script> Election",writer,Date.from(Instant.parse("2025-11-12T14:00:00Z")));
+            news.setBody("<img src=x onerror=alert(1)> The election results were published");
+            entityManager.persist(news);
+            entityManager.flush();
+
+            //Act
+            List<NewsSearchView> newsReturned = newsRepository.searchNews("election",1000,10,0);
+
+            //Assert
+            assertEquals(1,newsReturned.size());
+            assertEquals(1,newsRepository.countSearchNews("election",1000));
+
+            NewsSearchResponseDTO response = NewsSearchResponseDTO.from(newsReturned.get(0));
+            assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; <mark>Election</mark>",response.highlightedTitle());
+            assertTrue(response.snippet().contains("<mark>election</mark>"));
+            assertFalse(response.snippet().contains("<img"));
+        }
+    }
+
+    private News buildAndPersistsNews(String title, User writer){
+        News news = NewsTestFactory.buildOneWithoutId(title,writer,Date.from(Instant.parse("2025-11-12T14:00:00Z")));
+        entityManager.persist(news);
+        entityManager.flush();
+        return news;
+    }
+
+    private User buildAndPersistsUser(String username){
+        User user = UserTestFactory.buildOne(username);
+        entityManager.persist(user);
+        return user;
+    }
+}
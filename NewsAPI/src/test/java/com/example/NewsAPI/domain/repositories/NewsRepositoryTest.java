@@ -1,15 +1,19 @@
 package com.example.NewsAPI.domain.repositories;
 
 import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsRevision;
 import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.factory.NewsTestFactory;
 import com.example.NewsAPI.factory.UserTestFactory;
 import jakarta.persistence.EntityManager;
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,8 +22,12 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -53,22 +61,24 @@ class NewsRepositoryTest {
 
             News unmatchedNews = buildAndPersistsNews("TitleUnmatched",unmatchedWriter,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
             //Act
-            List<News> newsListReturned = newsRepository.findNews(title,writerUsername,startDate,endDate);
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,true);
 
             //Assert
             assertEquals(2,newsListReturned.size());
             assertThat(newsListReturned)
-                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
-                    .isEqualTo(newsListExpected);
-            assertFalse(newsListReturned.contains(unmatchedNews));
+                    .extracting(NewsGetResponseDTO::id,NewsGetResponseDTO::title,NewsGetResponseDTO::body,NewsGetResponseDTO::writer)
+                    .containsExactlyElementsOf(toTuples(newsListExpected));
+            assertThat(newsListReturned)
+                    .extracting(NewsGetResponseDTO::id)
+                    .doesNotContain(unmatchedNews.getId());
         }
 
         @Test
-        @DisplayName("Should return all news when filters is null and extreme dates")
+        @DisplayName("Should return all news when filters and dates are null")
         void listFindNewsTestNullParamsSuccess(){
             //Arrange
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
 
             User writer = buildAndPersistsUser("WriterTest");
 
@@ -81,13 +91,13 @@ class NewsRepositoryTest {
 
             List<News> newsListExpected = List.of(news1,news2,news3);
             //Act
-            List<News> newsListReturned = newsRepository.findNews(null,null,startDate,endDate);
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findNews(null,null,startDate,endDate,true);
 
             //Assert
             assertEquals(3,newsListReturned.size());
             assertThat(newsListReturned)
-                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
-                    .isEqualTo(newsListExpected);
+                    .extracting(NewsGetResponseDTO::id,NewsGetResponseDTO::title,NewsGetResponseDTO::body,NewsGetResponseDTO::writer)
+                    .containsExactlyElementsOf(toTuples(newsListExpected));
         }
 
         @Test
@@ -106,13 +116,76 @@ class NewsRepositoryTest {
             buildAndPersistsNews("TitleTest",writer1,Date.from(Instant.parse("2025-11-12T20:00:00Z")));
             buildAndPersistsNews("Third",writer2,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
             //Act
-            List<News> newsListReturned = newsRepository.findNews(title,writerUsername,startDate,endDate);
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,true);
 
             //Assert
             assertTrue(newsListReturned.isEmpty());
         }
     }
 
+    @Nested
+    class findNewsById{
+        @Test
+        @DisplayName("Should return the news projection with the writer username and its revision for an existing id")
+        void findNewsByIdTestSuccess(){
+            //Arrange
+            User writer = buildAndPersistsUser("WriterTest");
+            News news = buildAndPersistsNews("TitleTest",writer,Date.from(Instant.parse("2025-11-12T14:00:00Z")));
+
+            //Act
+            Optional<NewsRevision> newsReturned = newsRepository.findNewsById(news.getId());
+
+            //Assert
+            assertTrue(newsReturned.isPresent());
+            assertThat(newsReturned.get().news())
+                    .extracting(NewsGetResponseDTO::id,NewsGetResponseDTO::title,NewsGetResponseDTO::body,NewsGetResponseDTO::writer)
+                    .containsExactly(news.getId(),news.getTitle(),news.getBody(),writer.getUsername());
+            assertEquals(0L,newsReturned.get().version());
+            assertEquals(news.getPublishedAt().toInstant(),newsReturned.get().updatedAt().toInstant());
+        }
+
+        @Test
+        @DisplayName("Should return empty when no news has the sent id")
+        void findNewsByIdTestNotFoundSuccess(){
+            //Act
+            Optional<NewsRevision> newsReturned = newsRepository.findNewsById(UUID.randomUUID());
+
+            //Assert
+            assertTrue(newsReturned.isEmpty());
+        }
+    }
+
+    @Nested
+    class streamNews{
+        @Test
+        @DisplayName("Should stream the news matching the filters in descending order")
+        void streamNewsTestSuccess(){
+            //Arrange
+            String writerUsername = "WriterTest";
+            Date startDate = null;
+            Date endDate = null;
+
+            User matchedWriter = buildAndPersistsUser(writerUsername);
+
+            News matchedNews1 = buildAndPersistsNews("TitleTest1",matchedWriter,Date.from(Instant.parse("2025-11-12T14:00:00Z")));
+            News matchedNews2 = buildAndPersistsNews("TitleTest2",matchedWriter,Date.from(Instant.parse("2025-11-12T12:00:00Z")));
+
+            User unmatchedWriter = buildAndPersistsUser("WriterUnmatched");
+
+            buildAndPersistsNews("TitleUnmatched",unmatchedWriter,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
+            //Act
+            List<NewsGetResponseDTO> newsListReturned;
+            try (Stream<NewsGetResponseDTO> newsStream = newsRepository.streamNews(null,writerUsername,startDate,endDate,true)) {
+                newsListReturned = newsStream.toList();
+            }
+
+            //Assert
+            assertThat(newsListReturned)
+                    .extracting(NewsGetResponseDTO::id,NewsGetResponseDTO::title,NewsGetResponseDTO::body,NewsGetResponseDTO::writer)
+                    .containsExactlyElementsOf(toTuples(List.of(matchedNews1,matchedNews2)));
+        }
+    }
+
     @Nested
     class pageFindNews{
         @Test
@@ -136,26 +209,24 @@ class NewsRepositoryTest {
 
             News unmatchedNews = buildAndPersistsNews("TitleUnmatched",unmatchedWriter,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
             //Act
-            Page<News> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,pageable);
+            Page<NewsGetResponseDTO> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             //Assert
             assertEquals(1,newsPageReturned.getContent().size());
             assertEquals(2,newsPageReturned.getTotalElements());
             assertEquals(2,newsPageReturned.getTotalPages());
 
-            assertThat(newsPageReturned)
-                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
-                    .contains(matchedNews2);
-            assertFalse(newsPageReturned.getContent().contains(matchedNews1));
-            assertFalse(newsPageReturned.getContent().contains(unmatchedNews));
+            assertThat(newsPageReturned.getContent())
+                    .extracting(NewsGetResponseDTO::id)
+                    .containsExactly(matchedNews2.getId());
         }
 
         @Test
         @DisplayName("Should return all elements across pages when filters are ignored")
         void pageFindNewsTestNullParamsSuccess(){
             //Arrange
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
             int page = 1;
             int pageSize = 1;
             Pageable pageable = PageRequest.of(page,pageSize);
@@ -170,18 +241,16 @@ class NewsRepositoryTest {
             News news3 = buildAndPersistsNews("Other",otherWriter,Date.from(Instant.parse("2025-11-12T12:00:00Z")));
 
             //Act
-            Page<News> newsPageReturned = newsRepository.findNews(null,null,startDate,endDate,pageable);
+            Page<NewsGetResponseDTO> newsPageReturned = newsRepository.findNews(null,null,startDate,endDate,true,pageable);
 
             //Assert
             assertEquals(1,newsPageReturned.getContent().size());
             assertEquals(3,newsPageReturned.getTotalElements());
             assertEquals(3,newsPageReturned.getTotalPages());
 
-            assertThat(newsPageReturned)
-                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
-                    .contains(news2);
-            assertFalse(newsPageReturned.getContent().contains(news1));
-            assertFalse(newsPageReturned.getContent().contains(news3));
+            assertThat(newsPageReturned.getContent())
+                    .extracting(NewsGetResponseDTO::id)
+                    .containsExactly(news2.getId());
         }
 
         @Test
@@ -190,8 +259,8 @@ class NewsRepositoryTest {
             //Arrange
             String title = "TitleTest";
             String writerUsername = "WriterTest";
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
             int page = 1;
             int pageSize = 1;
             Pageable pageable = PageRequest.of(page,pageSize);
@@ -204,7 +273,7 @@ class NewsRepositoryTest {
             buildAndPersistsNews("Third",writer2,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
 
             //Act
-            Page<News> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,pageable);
+            Page<NewsGetResponseDTO> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             //Assert
             assertTrue(newsPageReturned.isEmpty());
@@ -233,7 +302,7 @@ class NewsRepositoryTest {
 
             buildAndPersistsNews("TitleUnmatched",unmatchedWriter,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
             //Act
-            Page<News> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,pageable);
+            Page<NewsGetResponseDTO> newsPageReturned = newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             //Assert
             assertTrue(newsPageReturned.isEmpty());
@@ -245,8 +314,8 @@ class NewsRepositoryTest {
         @DisplayName("Should return a page with the correct number of news even when it's the last page")
         void pageFindNewsTestLastPageSuccess(){
             //Arrange
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
             int page = 1;
             int pageSize = 2;
             Pageable pageable = PageRequest.of(page,pageSize);
@@ -261,18 +330,91 @@ class NewsRepositoryTest {
             News news3 = buildAndPersistsNews("Other",otherWriter,Date.from(Instant.parse("2025-11-12T12:00:00Z")));
 
             //Act
-            Page<News> newsPageReturned = newsRepository.findNews(null,null,startDate,endDate,pageable);
+            Page<NewsGetResponseDTO> newsPageReturned = newsRepository.findNews(null,null,startDate,endDate,true,pageable);
 
             //Assert
             assertEquals(1,newsPageReturned.getContent().size());
             assertEquals(3,newsPageReturned.getTotalElements());
             assertEquals(2,newsPageReturned.getTotalPages());
 
-            assertThat(newsPageReturned)
-                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
-                    .contains(news3);
-            assertFalse(newsPageReturned.getContent().contains(news1));
-            assertFalse(newsPageReturned.getContent().contains(news2));
+            assertThat(newsPageReturned.getContent())
+                    .extracting(NewsGetResponseDTO::id)
+                    .containsExactly(news3.getId());
+        }
+    }
+
+    @Nested
+    class cursorFindNews{
+        @Test
+        @DisplayName("Should return the first news in descending order when no cursor is sent")
+        void cursorFindNewsTestFirstPageSuccess(){
+            //Arrange
+            Date startDate = null;
+            Date endDate = null;
+
+            User writer = buildAndPersistsUser("WriterTest");
+
+            News news1 = buildAndPersistsNews("TitleTest1",writer,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
+            News news2 = buildAndPersistsNews("TitleTest2",writer,Date.from(Instant.parse("2025-11-12T14:00:00Z")));
+            buildAndPersistsNews("TitleTest3",writer,Date.from(Instant.parse("2025-11-12T12:00:00Z")));
+
+            //Act
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findFirstNews(null,null,startDate,endDate,true,Limit.of(2));
+
+            //Assert
+            assertThat(newsListReturned)
+                    .extracting(NewsGetResponseDTO::id)
+                    .containsExactly(news1.getId(),news2.getId());
+        }
+
+        @Test
+        @DisplayName("Should return only the news after the cursor, using the id to break ties in the publication date")
+        void cursorFindNewsTestAfterCursorSuccess(){
+            //Arrange
+            Date startDate = null;
+            Date endDate = null;
+            Date sharedDate = Date.from(Instant.parse("2025-11-12T14:00:00Z"));
+
+            User writer = buildAndPersistsUser("WriterTest");
+
+            buildAndPersistsNews("TitleTest1",writer,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
+            News tiedNews1 = buildAndPersistsNews("TitleTest2",writer,sharedDate);
+            News tiedNews2 = buildAndPersistsNews("TitleTest3",writer,sharedDate);
+            News olderNews = buildAndPersistsNews("TitleTest4",writer,Date.from(Instant.parse("2025-11-12T12:00:00Z")));
+
+            News cursorNews = tiedNews1.getId().toString().compareTo(tiedNews2.getId().toString()) > 0 ? tiedNews1 : tiedNews2;
+            News nextTiedNews = cursorNews == tiedNews1 ? tiedNews2 : tiedNews1;
+
+            //Act
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findNewsAfter(null,null,startDate,endDate,cursorNews.getPublishedAt(),cursorNews.getId(),true,Limit.of(10));
+
+            //Assert
+            assertThat(newsListReturned)
+                    .extracting(NewsGetResponseDTO::id)
+                    .containsExactly(nextTiedNews.getId(),olderNews.getId());
+        }
+    }
+
+    @Nested
+    class withoutBody{
+        @Test
+        @DisplayName("Should project the news without the body when the body is not requested")
+        void findNewsTestWithoutBodySuccess(){
+            //Arrange
+            Date startDate = null;
+            Date endDate = null;
+
+            User writer = buildAndPersistsUser("WriterTest");
+
+            News news = buildAndPersistsNews("TitleTest",writer,Date.from(Instant.parse("2025-11-15T00:00:00Z")));
+
+            //Act
+            List<NewsGetResponseDTO> newsListReturned = newsRepository.findNews(null,null,startDate,endDate,false);
+
+            //Assert
+            assertThat(newsListReturned)
+                    .extracting(NewsGetResponseDTO::id,NewsGetResponseDTO::title,NewsGetResponseDTO::body,NewsGetResponseDTO::writer)
+                    .containsExactly(tuple(news.getId(),news.getTitle(),null,writer.getUsername()));
         }
     }
 
@@ -282,6 +424,12 @@ class NewsRepositoryTest {
         return user;
     }
 
+    private List<Tuple> toTuples(List<News> newsList){
+        return newsList.stream()
+                .map(news -> tuple(news.getId(),news.getTitle(),news.getBody(),news.getWriter().getUsername()))
+                .toList();
+    }
+
     private News buildAndPersistsNews(String title, User writer, Date publicationDate){
         News news = NewsTestFactory.buildOneWithoutId(title,writer,publicationDate);
         entityManager.persist(news);
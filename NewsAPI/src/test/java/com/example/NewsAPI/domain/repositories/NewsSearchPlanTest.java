@@ -0,0 +1,127 @@
+package com.example.NewsAPI.domain.repositories;
+
+import com.example.NewsAPI.domain.news.NewsSearchView;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.UserTestFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExplainingDataSource.Configuration.class)
+class NewsSearchPlanTest {
+    private static final int NEWS = 50_000;
+    private static final int RARE_EVERY = 1_000;
+    private static final int CANDIDATES = 1_000;
+    private static final double TARGET_MILLIS = 50;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry){
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    ExplainingDataSource explainingDataSource;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void seed(){
+        User writer = UserTestFactory.buildOne("SearchPlanWriter");
+        entityManager.persist(writer);
+        entityManager.flush();
+
+        entityManager.createNativeQuery("INSERT INTO news (id, title, body, writer_id, published_at, updated_at) " +
+                        "SELECT gen_random_uuid(), 'Election coverage ' || i, " +
+                        "CASE WHEN i % " + RARE_EVERY + " = 0 THEN 'A zebra escaped during the election count, number ' || i " +
+                        "ELSE 'The election results were published by the regional court, number ' || i END, " +
+                        ":writerId, TIMESTAMP '2020-01-01 00:00:00' + i * INTERVAL '1 minute', TIMESTAMP '2020-01-01 00:00:00' + i * INTERVAL '1 minute' " +
+                        "FROM generate_series(1, " + NEWS + ") AS i")
+                .setParameter("writerId",writer.getId())
+                .executeUpdate();
+        entityManager.createNativeQuery("ANALYZE news").executeUpdate();
+        explainingDataSource.clear();
+    }
+
+    @Nested
+    class searchNews{
+        @Test
+        @DisplayName("Should rank only the newest candidates and answer a term matching every news within the target")
+        void searchNewsTestCommonTermWithinTargetSuccess(){
+            //Arrange
+            newsRepository.searchNews("election",CANDIDATES,10,0);
+
+            //Act
+            List<NewsSearchView> newsReturned = newsRepository.searchNews("election",CANDIDATES,10,0);
+
+            //Assert
+            ExplainingDataSource.Plan plan = explainingDataSource.lastPlan();
+            assertEquals(10,newsReturned.size());
+            assertThat(plan.plan()).contains("ts_rank").contains("rows=" + CANDIDATES + " loops=1");
+            assertTrue(plan.executionMillis() < TARGET_MILLIS,plan::plan);
+        }
+
+        @Test
+        @DisplayName("Should find the matches of a rare term through the V5 GIN index within the target")
+        void searchNewsTestRareTermUsesGinIndexSuccess(){
+            //Arrange
+            newsRepository.searchNews("zebra",CANDIDATES,10,0);
+
+            //Act
+            List<NewsSearchView> newsReturned = newsRepository.searchNews("zebra",CANDIDATES,10,0);
+
+            //Assert
+            ExplainingDataSource.Plan plan = explainingDataSource.lastPlan();
+            assertEquals(10,newsReturned.size());
+            assertThat(plan.plan()).contains("Bitmap Index Scan on ix_news_search_vector");
+            assertTrue(plan.executionMillis() < TARGET_MILLIS,plan::plan);
+        }
+    }
+
+    @Nested
+    class countSearchNews{
+        @Test
+        @DisplayName("Should stop counting at the candidate limit and stay within the target for a term matching every news")
+        void countSearchNewsTestBoundedSuccess(){
+            //Arrange
+            newsRepository.countSearchNews("election",CANDIDATES);
+
+            //Act
+            long newsFound = newsRepository.countSearchNews("election",CANDIDATES);
+
+            //Assert
+            ExplainingDataSource.Plan plan = explainingDataSource.lastPlan();
+            assertEquals(CANDIDATES,newsFound);
+            assertTrue(plan.executionMillis() < TARGET_MILLIS,plan::plan);
+        }
+
+        @Test
+        @DisplayName("Should count the matches of a rare term through the V5 GIN index")
+        void countSearchNewsTestRareTermUsesGinIndexSuccess(){
+            //Act
+            long newsFound = newsRepository.countSearchNews("zebra",CANDIDATES);
+
+            //Assert
+            assertEquals(NEWS / RARE_EVERY,newsFound);
+            assertThat(explainingDataSource.lastPlan().plan()).contains("Bitmap Index Scan on ix_news_search_vector");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.NewsAPI.domain.repositories;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// A real PostgreSQL, started once per test JVM from the embedded-postgres binaries, for the
+// queries H2 cannot run (native RETURNING, full-text search, pg_trgm). Flyway migrates it like
+// production; each test class registers it with @DynamicPropertySource.
+final class PostgresTestDatabase {
+    private static EmbeddedPostgres postgres;
+
+    private PostgresTestDatabase() {
+    }
+
+    static void register(DynamicPropertyRegistry registry){
+        EmbeddedPostgres database = start();
+        registry.add("spring.datasource.url", () -> database.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static synchronized EmbeddedPostgres start(){
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                }
+            }));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.exception.AuthenticatedUserNotFoundException;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticatedUserServiceTest {
+
+    AuthenticatedUserService authenticatedUserService = new AuthenticatedUserService();
+
+    @AfterEach
+    void afterEach(){
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class getAuthenticatedUser{
+        @Test
+        @DisplayName("Should return the user placed in the security context by the SecurityFilter")
+        void getAuthenticatedUserTestSuccess(){
+            //Arrange
+            User user = UserTestFactory.buildOne("UserTest");
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+            //Act
+            User returnedUser = authenticatedUserService.getAuthenticatedUser();
+
+            //Assert
+            assertSame(user,returnedUser);
+        }
+
+        @Test
+        @DisplayName("Should throw AuthenticatedUserNotFoundException when there is no authentication in the security context")
+        void getAuthenticatedUserTestNoAuthenticationFailure(){
+            //Act / Assert
+            Exception exception = assertThrows(AuthenticatedUserNotFoundException.class,
+                    () -> authenticatedUserService.getAuthenticatedUser());
+
+            //Assert
+            assertEquals("No authenticated user found in the security context",exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw AuthenticatedUserNotFoundException when the principal is not an application user")
+        void getAuthenticatedUserTestAnonymousPrincipalFailure(){
+            //Arrange
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("anonymousUser", null));
+
+            //Act / Assert
+            assertThrows(AuthenticatedUserNotFoundException.class,
+                    () -> authenticatedUserService.getAuthenticatedUser());
+        }
+    }
+}
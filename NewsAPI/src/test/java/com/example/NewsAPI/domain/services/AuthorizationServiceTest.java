@@ -1,6 +1,9 @@
 package com.example.NewsAPI.domain.services;
 
 import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.domain.user.UserRole;
+import com.example.NewsAPI.factory.UserTestFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,9 @@ class AuthorizationServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    UserCacheService userCacheService;
+
     @Nested
     class loadUserByUsername{
 
@@ -67,4 +73,32 @@ class AuthorizationServiceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class updatePassword{
+
+        @Test
+        @DisplayName("Should persist the rehashed password and evict the cached user")
+        void updatePasswordTestSuccess(){
+            //Arrange
+            String username = "UserTest";
+            String rehashedPassword = "$2a$12$rehashed";
+            User userExpected = UserTestFactory.buildOne(username, UserRole.WRITER);
+
+            when(userRepository.findUserByUsername(username)).thenReturn(userExpected);
+            when(userRepository.save(userExpected)).thenReturn(userExpected);
+
+            //Act
+
+            UserDetails userDetailsReturned = authorizationService.updatePassword(userExpected,rehashedPassword);
+
+            //Assert
+            verify(userRepository).findUserByUsername(username);
+            verify(userRepository).save(userExpected);
+            verify(userCacheService).evict(username);
+
+            verifyNoMoreInteractions(userRepository,userCacheService);
+
+            assertEquals(rehashedPassword,userDetailsReturned.getPassword());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsCacheServiceTest {
+
+    @InjectMocks
+    NewsCacheService newsCacheService;
+
+    @Mock
+    NewsRepository newsRepository;
+
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void beforeEach(){
+        ReflectionTestUtils.setField(newsCacheService, "maxWeight", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(newsCacheService, "ttl", Duration.ofMinutes(10));
+        newsCacheService.init();
+    }
+
+    @Nested
+    class findById{
+        @Test
+        @DisplayName("Should query the repository only once and serve the following lookups from the cache")
+        void findByIdTestCacheHitSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRevision news = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            when(newsRepository.findNewsById(newsId)).thenReturn(Optional.of(news));
+
+            //Act
+            NewsRevision firstReturned = newsCacheService.findById(newsId);
+            NewsRevision secondReturned = newsCacheService.findById(newsId);
+            newsCacheService.cache.cleanUp();
+
+            //Assert
+            verify(newsRepository).findNewsById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+
+            assertSame(news,firstReturned);
+            assertSame(news,secondReturned);
+            assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache","news","result","hit").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache","news","result","miss").functionCounter().count());
+            assertTrue(meterRegistry.get("cache.weight").tags("cache","news").gauge().value() > 0);
+        }
+
+        @Test
+        @DisplayName("Should not cache unknown news ids")
+        void findByIdTestUnknownNewsNotCachedSuccess(){
+            //Arrange
+            UUID newsId = UUID.randomUUID();
+
+            when(newsRepository.findNewsById(newsId)).thenReturn(Optional.empty());
+
+            //Act
+            NewsRevision firstReturned = newsCacheService.findById(newsId);
+            NewsRevision secondReturned = newsCacheService.findById(newsId);
+
+            //Assert
+            verify(newsRepository,times(2)).findNewsById(newsId);
+
+            assertNull(firstReturned);
+            assertNull(secondReturned);
+        }
+
+        @Test
+        @DisplayName("Should evict entries once the estimated size exceeds the configured maximum weight")
+        void findByIdTestMaximumWeightEvictionSuccess(){
+            //Arrange
+            ReflectionTestUtils.setField(newsCacheService, "maxWeight", DataSize.ofKilobytes(8));
+            newsCacheService.init();
+
+            String largeBody = "B".repeat(3_000);
+
+            //Act
+            for (int i = 0; i < 10; i++) {
+                UUID newsId = UUID.randomUUID();
+                newsCacheService.put(new NewsRevision(newsId,"TitleTest",largeBody,null,"WriterTest",0L,null));
+            }
+            newsCacheService.cache.cleanUp();
+
+            //Assert
+            assertTrue(newsCacheService.cache.estimatedSize() < 10);
+            assertTrue(newsCacheService.cache.policy().eviction().orElseThrow().weightedSize().orElseThrow() <= DataSize.ofKilobytes(8).toBytes());
+        }
+    }
+
+    @Nested
+    class put{
+        @Test
+        @DisplayName("Should serve the refreshed news without querying the repository")
+        void putTestRefreshSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRevision news = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            //Act
+            newsCacheService.put(news);
+            NewsRevision newsReturned = newsCacheService.findById(newsId);
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+
+            assertSame(news,newsReturned);
+        }
+
+        @Test
+        @DisplayName("Should keep the newest revision when an older one is written afterwards")
+        void putTestKeepsNewestVersionSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            Date updatedAt = Date.from(Instant.parse("2025-11-06T10:00:00Z"));
+            NewsRevision newer = new NewsRevision(newsId,"TitleTestUpdated","BodyTest",updatedAt,"WriterTest",2L,updatedAt);
+            NewsRevision older = new NewsRevision(newsId,"TitleTest","BodyTest",updatedAt,"WriterTest",1L,updatedAt);
+
+            //Act
+            newsCacheService.put(newer);
+            newsCacheService.put(older);
+
+            //Assert
+            assertSame(newer,newsCacheService.findById(newsId));
+        }
+
+        @Test
+        @DisplayName("Should only write the revision once the surrounding transaction commits")
+        void putTestAfterCommitSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRevision news = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                //Act
+                newsCacheService.put(news);
+
+                //Assert
+                assertNull(newsCacheService.cache.getIfPresent(newsId));
+
+                TransactionSynchronizationUtils.triggerAfterCommit();
+                assertSame(news,newsCacheService.cache.getIfPresent(newsId));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop the revision when the surrounding transaction rolls back")
+        void putTestRollbackSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRevision news = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                //Act
+                newsCacheService.put(news);
+                TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),TransactionSynchronization.STATUS_ROLLED_BACK);
+
+                //Assert
+                assertNull(newsCacheService.cache.getIfPresent(newsId));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    @Nested
+    class evict{
+        @Test
+        @DisplayName("Should reload the news from the repository after it is evicted")
+        void evictTestReloadSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            NewsRevision news = NewsRevision.from(NewsTestFactory.buildOne(newsId));
+
+            when(newsRepository.findNewsById(newsId)).thenReturn(Optional.of(news));
+
+            //Act
+            newsCacheService.findById(newsId);
+            newsCacheService.evict(newsId);
+            newsCacheService.findById(newsId);
+
+            //Assert
+            verify(newsRepository,times(2)).findNewsById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsRequestDTO;
+import com.example.NewsAPI.domain.repositories.NewsRepository;
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.NewsTestFactory;
+import com.example.NewsAPI.factory.UserTestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NewsCacheTransactionTest {
+    @Autowired
+    NewsService newsService;
+
+    @Autowired
+    NewsCacheService newsCacheService;
+
+    @Autowired
+    NewsRepository newsRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    User writer;
+
+    News news;
+
+    @BeforeEach
+    void setUp(){
+        writer = userRepository.saveAndFlush(UserTestFactory.buildOne("CacheTransactionWriter"));
+        news = newsRepository.saveAndFlush(NewsTestFactory.buildOneWithoutId("TitleTest",writer,Date.from(Instant.parse("2025-11-06T00:00:00Z"))));
+        newsService.getOne(news.getId());
+    }
+
+    @AfterEach
+    void afterEach(){
+        newsCacheService.evict(news.getId());
+        newsRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    class update{
+        @Test
+        @DisplayName("Should leave the cached revision untouched when the update rolls back")
+        void updateTestRollbackKeepsCacheSuccess(){
+            //Act
+            transactionTemplate.executeWithoutResult(status -> {
+                newsService.update(news.getId(),new NewsRequestDTO("TitleRolledBack",null),null,writer);
+                status.setRollbackOnly();
+            });
+
+            //Assert
+            assertEquals("TitleTest",newsService.getOne(news.getId()).news().title());
+            assertEquals("TitleTest",newsRepository.findById(news.getId()).orElseThrow().getTitle());
+        }
+
+        @Test
+        @DisplayName("Should cache the new revision once the update commits")
+        void updateTestCommitRefreshesCacheSuccess(){
+            //Act
+            transactionTemplate.executeWithoutResult(status -> {
+                newsService.update(news.getId(),new NewsRequestDTO("TitleCommitted",null),null,writer);
+
+                //Assert
+                assertEquals("TitleTest",newsCacheService.cache.getIfPresent(news.getId()).news().title());
+            });
+
+            //Assert
+            assertEquals("TitleCommitted",newsCacheService.cache.getIfPresent(news.getId()).news().title());
+            assertEquals(1L,newsCacheService.cache.getIfPresent(news.getId()).version());
+        }
+    }
+}
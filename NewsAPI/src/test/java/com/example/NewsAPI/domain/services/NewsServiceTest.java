@@ -1,16 +1,33 @@
 package com.example.NewsAPI.domain.services;
 
+import com.example.NewsAPI.domain.news.DeletedNewsView;
 import com.example.NewsAPI.domain.news.News;
+import com.example.NewsAPI.domain.news.NewsBatchItemResultDTO;
+import com.example.NewsAPI.domain.news.NewsBatchResponseDTO;
+import com.example.NewsAPI.domain.news.NewsCursor;
 import com.example.NewsAPI.domain.news.NewsGetResponseDTO;
+import com.example.NewsAPI.domain.news.NewsFilter;
 import com.example.NewsAPI.domain.news.NewsGetResponseListDTO;
 import com.example.NewsAPI.domain.news.NewsRequestDTO;
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.news.NewsSearchResponseDTO;
+import com.example.NewsAPI.domain.news.NewsSearchResponseListDTO;
+import com.example.NewsAPI.domain.news.NewsSearchView;
+import com.example.NewsAPI.domain.news.PatchedNewsView;
 import com.example.NewsAPI.domain.repositories.NewsRepository;
-import com.example.NewsAPI.domain.repositories.UserRepository;
 import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.exception.BelongsToAnotherWriterException;
+import com.example.NewsAPI.exception.InvalidBatchException;
+import com.example.NewsAPI.exception.InvalidCursorException;
+import com.example.NewsAPI.exception.InvalidDateRangeException;
+import com.example.NewsAPI.exception.InvalidNewsUpdateException;
+import com.example.NewsAPI.exception.InvalidSearchQueryException;
 import com.example.NewsAPI.exception.NewsNotFoundException;
+import com.example.NewsAPI.exception.NewsVersionMismatchException;
 import com.example.NewsAPI.factory.NewsTestFactory;
 import com.example.NewsAPI.factory.UserTestFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,21 +35,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.*;
 import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,10 +72,10 @@ class NewsServiceTest {
     NewsRepository newsRepository;
 
     @Mock
-    TokenService tokenService;
+    NewsCacheService newsCacheService;
 
     @Mock
-    UserRepository userRepository;
+    AuthenticatedUserService authenticatedUserService;
 
     @Mock
     TemporalService dateService;
@@ -56,6 +83,9 @@ class NewsServiceTest {
     @Mock
     Clock clock;
 
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @Nested
     class create{
         @Test
@@ -66,8 +96,6 @@ class NewsServiceTest {
 
             NewsRequestDTO newsData = new NewsRequestDTO("TitleTest","BodyTest");
 
-            String tokenExpected = "123Token123";
-
             News newsExpected = NewsTestFactory.buildOne(newsData,writer);
 
             Date publishedAt = newsExpected.getPublishedAt();
@@ -75,9 +103,7 @@ class NewsServiceTest {
             ArgumentCaptor<News> newsCaptor = ArgumentCaptor.forClass(News.class);
 
             when(clock.instant()).thenReturn(publishedAt.toInstant());
-            when(tokenService.recoverToken()).thenReturn(tokenExpected);
-            when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(writer.getUsername());
-            when(userRepository.findByUsername(writer.getUsername())).thenReturn(writer);
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(writer);
             when(newsRepository.save(any())).thenReturn(newsExpected);
 
 
@@ -86,17 +112,15 @@ class NewsServiceTest {
 
             //Assert
             verify(clock).instant();
-            verify(tokenService).recoverToken();
-            verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-            verify(userRepository).findByUsername(writer.getUsername());
+            verify(authenticatedUserService).getAuthenticatedUser();
             verify(newsRepository).save(newsCaptor.capture());
 
-            verifyNoMoreInteractions(clock, tokenService, userRepository, newsRepository);
+            verifyNoMoreInteractions(clock, authenticatedUserService, newsRepository);
 
             News newsCaptured = newsCaptor.getValue();
             assertThat(newsCaptured)
-                    .extracting(News::getTitle,News::getBody,News::getPublishedAt,News::getWriter)
-                    .containsExactly(newsData.title(),newsData.body(),publishedAt,writer);
+                    .extracting(News::getTitle,News::getBody,News::getPublishedAt,News::getUpdatedAt,News::getWriter)
+                    .containsExactly(newsData.title(),newsData.body(),publishedAt,publishedAt,writer);
 
             assertThat(newsReturned)
                     .extracting(News::getId,News::getTitle,News::getBody,News::getPublishedAt,News::getWriter)
@@ -104,6 +128,101 @@ class NewsServiceTest {
         }
     }
 
+    @Nested
+    class createBatch{
+        @Test
+        @DisplayName("Should save the valid news in a single saveAll call and report the invalid ones by index")
+        void createBatchTestPartialSuccess() {
+            //Arrange
+            User writer = UserTestFactory.buildOne();
+            Instant publishedAt = Instant.parse("2025-10-14T00:00:00Z");
+            ReflectionTestUtils.setField(newsService, "maxBatchSize", 10);
+
+            List<NewsRequestDTO> newsData = List.of(
+                    new NewsRequestDTO("TitleTest1","BodyTest1"),
+                    new NewsRequestDTO("","BodyTest2"),
+                    new NewsRequestDTO("TitleTest3","BodyTest3")
+            );
+
+            UUID firstId = UUID.randomUUID();
+            UUID thirdId = UUID.randomUUID();
+
+            ArgumentCaptor<List<News>> newsCaptor = ArgumentCaptor.forClass(List.class);
+
+            when(clock.instant()).thenReturn(publishedAt);
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(writer);
+            when(newsRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<News> news = invocation.getArgument(0);
+                news.get(0).setId(firstId);
+                news.get(1).setId(thirdId);
+                return news;
+            });
+
+            //Act
+            NewsBatchResponseDTO response = newsService.createBatch(newsData);
+
+            //Assert
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).saveAll(newsCaptor.capture());
+
+            verifyNoMoreInteractions(authenticatedUserService, newsRepository);
+
+            assertThat(newsCaptor.getValue()).asList()
+                    .extracting("title","body","publishedAt","updatedAt","writer")
+                    .containsExactly(
+                            tuple("TitleTest1","BodyTest1",Date.from(publishedAt),Date.from(publishedAt),writer),
+                            tuple("TitleTest3","BodyTest3",Date.from(publishedAt),Date.from(publishedAt),writer)
+                    );
+
+            assertThat(response)
+                    .extracting(NewsBatchResponseDTO::created,NewsBatchResponseDTO::rejected)
+                    .containsExactly(2,1);
+
+            assertThat(response.results()).asList()
+                    .containsExactly(
+                            NewsBatchItemResultDTO.created(0,firstId),
+                            NewsBatchItemResultDTO.rejected(1,Map.of("title","The news title is a mandatory parameter")),
+                            NewsBatchItemResultDTO.created(2,thirdId)
+                    );
+        }
+
+        @Test
+        @DisplayName("Should throw an InvalidBatchException when the batch is empty")
+        void createBatchTestEmptyFailure() {
+            //Arrange
+            User writer = UserTestFactory.buildOne();
+            ReflectionTestUtils.setField(newsService, "maxBatchSize", 10);
+
+            //Act / Assert
+            assertThrows(InvalidBatchException.class,
+                    () -> newsService.createBatch(List.of(), writer));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw an InvalidBatchException when the batch is larger than the configured maximum")
+        void createBatchTestTooLargeFailure() {
+            //Arrange
+            User writer = UserTestFactory.buildOne();
+            ReflectionTestUtils.setField(newsService, "maxBatchSize", 2);
+
+            List<NewsRequestDTO> newsData = List.of(
+                    new NewsRequestDTO("TitleTest1","BodyTest1"),
+                    new NewsRequestDTO("TitleTest2","BodyTest2"),
+                    new NewsRequestDTO("TitleTest3","BodyTest3")
+            );
+
+            //Act / Assert
+            assertThrows(InvalidBatchException.class,
+                    () -> newsService.createBatch(newsData, writer));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+    }
+
     @Nested
     class get{
         @Test
@@ -131,17 +250,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
             when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(title,writerUsername,startDate,endDate)).thenReturn(newsListExpected);
+            when(newsRepository.findNews(title,writerUsername,startDate,endDate,true)).thenReturn(newsListDTOExpected);
 
             //Act
 
-            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(title,writerUsername,publicationDate);
+            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(NewsFilter.of(title,writerUsername,publicationDate),true);
 
             //Assert
 
             verify(dateService).definesStartDate(publicationDate);
             verify(dateService).definesEndDate(publicationDate,startDate);
-            verify(newsRepository).findNews(title,writerUsername,startDate,endDate);
+            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,true);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -161,21 +280,21 @@ class NewsServiceTest {
             Date startDate = Date.from(Instant.parse("2025-10-14T00:00:00Z"));
             Date endDate = Date.from(Instant.parse("2025-10-15T00:00:00Z"));
 
-            List<News> newsListExpected = List.of();
+            List<NewsGetResponseDTO> newsListDTOExpected = List.of();
 
             when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
             when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(title,writerUsername,startDate,endDate)).thenReturn(newsListExpected);
+            when(newsRepository.findNews(title,writerUsername,startDate,endDate,true)).thenReturn(newsListDTOExpected);
 
             //Act
 
-            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(title,writerUsername,publicationDate);
+            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(NewsFilter.of(title,writerUsername,publicationDate),true);
 
             //Assert
 
             verify(dateService).definesStartDate(publicationDate);
             verify(dateService).definesEndDate(publicationDate,startDate);
-            verify(newsRepository).findNews(title,writerUsername,startDate,endDate);
+            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,true);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -186,8 +305,8 @@ class NewsServiceTest {
         @DisplayName("Should call the repository and return all news when parameters are null")
         void getTestNullParamsSuccess(){
             //Arrange
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
 
             News news1 = NewsTestFactory.buildOne("TitleTest");
             News news2 = NewsTestFactory.buildOne("TitleTest2");
@@ -201,17 +320,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(null)).thenReturn(startDate);
             when(dateService.definesEndDate(null,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(null,null,startDate,endDate)).thenReturn(newsListExpected);
+            when(newsRepository.findNews(null,null,startDate,endDate,true)).thenReturn(newsListDTOExpected);
 
             //Act
 
-            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(null,null,null);
+            List<NewsGetResponseDTO> newsListDTOReturned = newsService.get(NewsFilter.of(null,null,null),true);
 
             //Assert
 
             verify(dateService).definesStartDate(null);
             verify(dateService).definesEndDate(null,startDate);
-            verify(newsRepository).findNews(null,null,startDate,endDate);
+            verify(newsRepository).findNews(null,null,startDate,endDate,true);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -221,6 +340,177 @@ class NewsServiceTest {
         }
     }
 
+    @Nested
+    class dateRangeFilters{
+        @Test
+        @DisplayName("Should push the from and to instants down to the repository as the date range")
+        void getTestFromToSuccess(){
+            //Arrange
+            Instant from = Instant.parse("2025-11-06T10:00:00Z");
+            Instant to = Instant.parse("2025-11-06T16:00:00Z");
+            NewsFilter filter = new NewsFilter(null,null,null,from,to,null);
+
+            when(newsRepository.findNews(null,null,Date.from(from),Date.from(to),true)).thenReturn(List.of());
+
+            //Act
+            newsService.get(filter,true);
+
+            //Assert
+            verify(dateService).definesStartDate(null);
+            verify(dateService).definesEndDate(null,null);
+            verify(newsRepository).findNews(null,null,Date.from(from),Date.from(to),true);
+
+            verifyNoMoreInteractions(dateService,newsRepository);
+            verifyNoInteractions(clock);
+        }
+
+        @Test
+        @DisplayName("Should start the date range at now minus the since window")
+        void getTestSinceSuccess(){
+            //Arrange
+            Instant now = Instant.parse("2025-11-06T12:00:00Z");
+            NewsFilter filter = new NewsFilter(null,"WriterTest",null,null,null,Duration.ofHours(6));
+
+            when(clock.instant()).thenReturn(now);
+            when(newsRepository.findNews(null,"WriterTest",Date.from(Instant.parse("2025-11-06T06:00:00Z")),null,true)).thenReturn(List.of());
+
+            //Act
+            newsService.get(filter,true);
+
+            //Assert
+            verify(newsRepository).findNews(null,"WriterTest",Date.from(Instant.parse("2025-11-06T06:00:00Z")),null,true);
+        }
+
+        @Test
+        @DisplayName("Should intersect the publication day with the from, to and since bounds")
+        void getNewsPagedTestIntersectedWindowSuccess(){
+            //Arrange
+            String publicationDate = "06/11/2025";
+            Date startDate = Date.from(Instant.parse("2025-11-06T00:00:00Z"));
+            Date endDate = Date.from(Instant.parse("2025-11-07T00:00:00Z"));
+            Instant from = Instant.parse("2025-11-05T00:00:00Z");
+            Instant to = Instant.parse("2025-11-06T18:00:00Z");
+            Instant now = Instant.parse("2025-11-06T20:00:00Z");
+            NewsFilter filter = new NewsFilter(null,null,publicationDate,from,to,Duration.ofHours(8));
+
+            Pageable pageable = PageRequest.of(0,10);
+
+            when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
+            when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
+            when(clock.instant()).thenReturn(now);
+            when(newsRepository.findNews(null,null,Date.from(Instant.parse("2025-11-06T12:00:00Z")),Date.from(to),true,pageable)).thenReturn(Page.empty(pageable));
+
+            //Act
+            newsService.getNewsPaged(filter,0,10,true);
+
+            //Assert
+            verify(newsRepository).findNews(null,null,Date.from(Instant.parse("2025-11-06T12:00:00Z")),Date.from(to),true,pageable);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidDateRangeException when from is not before to")
+        void getTestFromAfterToFailure(){
+            //Arrange
+            Instant instant = Instant.parse("2025-11-06T10:00:00Z");
+            NewsFilter filter = new NewsFilter(null,null,null,instant,instant,null);
+
+            //Act / Assert
+            assertThrows(InvalidDateRangeException.class,() -> newsService.get(filter,true));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+
+        @Test
+        @DisplayName("Should start the date range at the earliest supported instant when the since window reaches past it")
+        void getTestHugeSinceSuccess(){
+            //Arrange
+            Instant now = Instant.parse("2025-11-06T12:00:00Z");
+            NewsFilter filter = new NewsFilter(null,null,null,null,null,Duration.ofSeconds(Long.MAX_VALUE));
+            Date earliest = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
+
+            when(clock.instant()).thenReturn(now);
+            when(newsRepository.findNews(null,null,earliest,null,true)).thenReturn(List.of());
+
+            //Act
+            newsService.get(filter,true);
+
+            //Assert
+            verify(newsRepository).findNews(null,null,earliest,null,true);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidDateRangeException when from or to is outside the supported range")
+        void getTestOutOfRangeInstantFailure(){
+            //Arrange
+            NewsFilter farFuture = new NewsFilter(null,null,null,null,Instant.MAX,null);
+            NewsFilter farPast = new NewsFilter(null,null,null,Instant.MIN,null,null);
+
+            //Act / Assert
+            assertThrows(InvalidDateRangeException.class,() -> newsService.get(farFuture,true));
+            assertThrows(InvalidDateRangeException.class,() -> newsService.get(farPast,true));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidDateRangeException when the since window is negative")
+        void getTestNegativeSinceFailure(){
+            //Arrange
+            NewsFilter filter = new NewsFilter(null,null,null,null,null,Duration.ofHours(-1));
+
+            //Act / Assert
+            assertThrows(InvalidDateRangeException.class,() -> newsService.get(filter,true));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+    }
+
+    @Nested
+    class forEachNews{
+        @Test
+        @DisplayName("Should pass every streamed news to the action and close the stream")
+        void forEachNewsTestSuccess(){
+            //Arrange
+            String writerUsername = "UserTest";
+            String publicationDate = "2025/10/14";
+
+            Date startDate = Date.from(Instant.parse("2025-10-14T00:00:00Z"));
+            Date endDate = Date.from(Instant.parse("2025-10-15T00:00:00Z"));
+
+            User user = UserTestFactory.buildOne(writerUsername);
+
+            List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(List.of(
+                    NewsTestFactory.buildOne("TitleTest1",user,Date.from(Instant.parse("2025-10-14T12:00:00Z"))),
+                    NewsTestFactory.buildOne("TitleTest2",user,Date.from(Instant.parse("2025-10-14T11:00:00Z")))
+            ));
+
+            boolean[] closed = {false};
+            Stream<NewsGetResponseDTO> newsStream = newsListDTOExpected.stream().onClose(() -> closed[0] = true);
+
+            when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
+            when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
+            when(newsRepository.streamNews(null,writerUsername,startDate,endDate,false)).thenReturn(newsStream);
+
+            List<NewsGetResponseDTO> newsListDTOReturned = new ArrayList<>();
+
+            //Act
+            newsService.forEachNews(NewsFilter.of(null,writerUsername,publicationDate),false,newsListDTOReturned::add);
+
+            //Assert
+            verify(dateService).definesStartDate(publicationDate);
+            verify(dateService).definesEndDate(publicationDate,startDate);
+            verify(newsRepository).streamNews(null,writerUsername,startDate,endDate,false);
+
+            verifyNoMoreInteractions(dateService,newsRepository);
+
+            assertEquals(newsListDTOExpected,newsListDTOReturned);
+            assertTrue(closed[0]);
+        }
+    }
+
     @Nested
     class getNewsPaged{
         @DisplayName("Should call the repository and return a page containing 2 news with the filters sent")
@@ -246,9 +536,8 @@ class NewsServiceTest {
 
 
             List<News> newsListExpected = List.of(news1,news2);
-            Page<News> newsPageExpected = new PageImpl<>(newsListExpected,pageable,totalElements);
-
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
+            Page<NewsGetResponseDTO> newsPageExpected = new PageImpl<>(newsListDTOExpected,pageable,totalElements);
 
             NewsGetResponseListDTO newsResponseDTOExpected = new NewsGetResponseListDTO(
                     "News returned successfully",
@@ -260,17 +549,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
             when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(title,writerUsername,startDate,endDate,pageable)).thenReturn(newsPageExpected);
+            when(newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable)).thenReturn(newsPageExpected);
 
             //Act
 
-            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(title,writerUsername,publicationDate,page,pageSize);
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(NewsFilter.of(title,writerUsername,publicationDate),page,pageSize,true);
 
             //Assert
 
             verify(dateService).definesStartDate(publicationDate);
             verify(dateService).definesEndDate(publicationDate,startDate);
-            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,pageable);
+            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -301,9 +590,8 @@ class NewsServiceTest {
 
 
             List<News> newsListExpected = List.of(news1);
-            Page<News> newsPageExpected = new PageImpl<>(newsListExpected,pageable,totalElements);
-
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
+            Page<NewsGetResponseDTO> newsPageExpected = new PageImpl<>(newsListDTOExpected,pageable,totalElements);
 
             NewsGetResponseListDTO newsResponseDTOExpected = new NewsGetResponseListDTO(
                     "News returned successfully",
@@ -315,17 +603,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
             when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(title,writerUsername,startDate,endDate,pageable)).thenReturn(newsPageExpected);
+            when(newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable)).thenReturn(newsPageExpected);
 
             //Act
 
-            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(title,writerUsername,publicationDate,page,pageSize);
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(NewsFilter.of(title,writerUsername,publicationDate),page,pageSize,true);
 
             //Assert
 
             verify(dateService).definesStartDate(publicationDate);
             verify(dateService).definesEndDate(publicationDate,startDate);
-            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,pageable);
+            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -351,9 +639,8 @@ class NewsServiceTest {
             Date endDate = Date.from(Instant.parse("2025-10-15T00:00:00Z"));
 
             List<News> newsListExpected = List.of();
-            Page<News> newsPageExpected = new PageImpl<>(newsListExpected,pageable,totalElements);
-
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
+            Page<NewsGetResponseDTO> newsPageExpected = new PageImpl<>(newsListDTOExpected,pageable,totalElements);
 
             NewsGetResponseListDTO newsResponseDTOExpected = new NewsGetResponseListDTO(
                     "News returned successfully",
@@ -365,17 +652,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
             when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(title,writerUsername,startDate,endDate,pageable)).thenReturn(newsPageExpected);
+            when(newsRepository.findNews(title,writerUsername,startDate,endDate,true,pageable)).thenReturn(newsPageExpected);
 
             //Act
 
-            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(title,writerUsername,publicationDate,page,pageSize);
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(NewsFilter.of(title,writerUsername,publicationDate),page,pageSize,true);
 
             //Assert
 
             verify(dateService).definesStartDate(publicationDate);
             verify(dateService).definesEndDate(publicationDate,startDate);
-            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,pageable);
+            verify(newsRepository).findNews(title,writerUsername,startDate,endDate,true,pageable);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -393,17 +680,16 @@ class NewsServiceTest {
             Pageable pageable = PageRequest.of(page, pageSize);
             long totalElements = 10L;
 
-            Date startDate = Date.from(Instant.parse("0001-01-01T00:00:00Z"));
-            Date endDate = Date.from(Instant.parse("9999-12-31T00:00:00Z"));
+            Date startDate = null;
+            Date endDate = null;
 
             News news1 = NewsTestFactory.buildOne("TitleTest");
             News news2 = NewsTestFactory.buildOne("TitleTest2");
 
 
             List<News> newsListExpected = List.of(news1,news2);
-            Page<News> newsPageExpected = new PageImpl<>(newsListExpected,pageable,totalElements);
-
             List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(newsListExpected);
+            Page<NewsGetResponseDTO> newsPageExpected = new PageImpl<>(newsListDTOExpected,pageable,totalElements);
 
             NewsGetResponseListDTO newsResponseDTOExpected = new NewsGetResponseListDTO(
                     "News returned successfully",
@@ -415,17 +701,17 @@ class NewsServiceTest {
 
             when(dateService.definesStartDate(null)).thenReturn(startDate);
             when(dateService.definesEndDate(null,startDate)).thenReturn(endDate);
-            when(newsRepository.findNews(null,null,startDate,endDate,pageable)).thenReturn(newsPageExpected);
+            when(newsRepository.findNews(null,null,startDate,endDate,true,pageable)).thenReturn(newsPageExpected);
 
             //Act
 
-            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(null,null,null,page,pageSize);
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsPaged(NewsFilter.of(null,null,null),page,pageSize,true);
 
             //Assert
 
             verify(dateService).definesStartDate(null);
             verify(dateService).definesEndDate(null,startDate);
-            verify(newsRepository).findNews(null,null,startDate,endDate,pageable);
+            verify(newsRepository).findNews(null,null,startDate,endDate,true,pageable);
 
             verifyNoMoreInteractions(dateService,newsRepository);
 
@@ -435,6 +721,220 @@ class NewsServiceTest {
         }
     }
 
+    @Nested
+    class getNewsByCursor{
+        @DisplayName("Should fetch one extra news and return the next cursor pointing to the last news of the page")
+        @Test
+        void getNewsByCursorTestHasNextSuccess(){
+            //Arrange
+            int pageSize = 2;
+
+            Date startDate = null;
+            Date endDate = null;
+
+            News news1 = NewsTestFactory.buildOne(UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379"),Date.from(Instant.parse("2025-10-14T12:00:00Z")));
+            News news2 = NewsTestFactory.buildOne(UUID.fromString("1b3acd51-2143-4a33-81a5-6ea065285379"),Date.from(Instant.parse("2025-10-14T11:00:00Z")));
+            News news3 = NewsTestFactory.buildOne(UUID.fromString("2c3acd51-2143-4a33-81a5-6ea065285379"),Date.from(Instant.parse("2025-10-14T10:00:00Z")));
+
+            List<NewsGetResponseDTO> newsListDTOExpected = NewsTestFactory.buildGetDTOList(List.of(news1,news2));
+
+            NewsGetResponseListDTO newsResponseDTOExpected = NewsGetResponseListDTO.cursorPage(
+                    "News returned successfully",
+                    newsListDTOExpected,
+                    NewsCursor.from(newsListDTOExpected.get(1)).encode()
+            );
+
+            when(dateService.definesStartDate(null)).thenReturn(startDate);
+            when(dateService.definesEndDate(null,startDate)).thenReturn(endDate);
+            when(newsRepository.findFirstNews(null,null,startDate,endDate,true,Limit.of(pageSize + 1))).thenReturn(NewsTestFactory.buildGetDTOList(List.of(news1,news2,news3)));
+
+            //Act
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsByCursor(NewsFilter.of(null,null,null),"",pageSize,true);
+
+            //Assert
+            verify(dateService).definesStartDate(null);
+            verify(dateService).definesEndDate(null,startDate);
+            verify(newsRepository).findFirstNews(null,null,startDate,endDate,true,Limit.of(pageSize + 1));
+
+            verifyNoMoreInteractions(dateService,newsRepository);
+
+            assertThat(newsListDTOReturned)
+                    .usingRecursiveComparison()
+                    .isEqualTo(newsResponseDTOExpected);
+        }
+
+        @DisplayName("Should decode the cursor sent and return a null next cursor when it's the last page")
+        @Test
+        void getNewsByCursorTestLastPageSuccess(){
+            //Arrange
+            int pageSize = 2;
+            String title = "TitleTest";
+            String writerUsername = "UserTest";
+            String publicationDate = "2025/10/14";
+
+            Date startDate = Date.from(Instant.parse("2025-10-14T00:00:00Z"));
+            Date endDate = Date.from(Instant.parse("2025-10-15T00:00:00Z"));
+
+            NewsCursor cursor = new NewsCursor(Date.from(Instant.parse("2025-10-14T12:00:00Z")),UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379"));
+
+            User user = UserTestFactory.buildOne(writerUsername);
+            News news1 = NewsTestFactory.buildOne(title,user,Date.from(Instant.parse("2025-10-14T11:00:00Z")));
+
+            NewsGetResponseListDTO newsResponseDTOExpected = NewsGetResponseListDTO.cursorPage(
+                    "News returned successfully",
+                    NewsTestFactory.buildGetDTOList(List.of(news1)),
+                    null
+            );
+
+            when(dateService.definesStartDate(publicationDate)).thenReturn(startDate);
+            when(dateService.definesEndDate(publicationDate,startDate)).thenReturn(endDate);
+            when(newsRepository.findNewsAfter(title,writerUsername,startDate,endDate,cursor.publishedAt(),cursor.id(),true,Limit.of(pageSize + 1))).thenReturn(NewsTestFactory.buildGetDTOList(List.of(news1)));
+
+            //Act
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsByCursor(NewsFilter.of(title,writerUsername,publicationDate),cursor.encode(),pageSize,true);
+
+            //Assert
+            verify(newsRepository).findNewsAfter(title,writerUsername,startDate,endDate,cursor.publishedAt(),cursor.id(),true,Limit.of(pageSize + 1));
+
+            assertThat(newsListDTOReturned)
+                    .usingRecursiveComparison()
+                    .isEqualTo(newsResponseDTOExpected);
+        }
+
+        @DisplayName("Should cap the page size so the look-ahead row cannot overflow")
+        @Test
+        void getNewsByCursorTestPageSizeCappedSuccess(){
+            //Arrange
+            int limit = NewsService.MAX_CURSOR_PAGE_SIZE;
+
+            when(dateService.definesStartDate(null)).thenReturn(null);
+            when(dateService.definesEndDate(null,null)).thenReturn(null);
+            when(newsRepository.findFirstNews(null,null,null,null,true,Limit.of(limit + 1))).thenReturn(List.of());
+
+            //Act
+            NewsGetResponseListDTO newsListDTOReturned = newsService.getNewsByCursor(NewsFilter.of(null,null,null),null,Integer.MAX_VALUE,true);
+
+            //Assert
+            verify(newsRepository).findFirstNews(null,null,null,null,true,Limit.of(limit + 1));
+
+            assertNull(newsListDTOReturned.newsFound());
+            assertNull(newsListDTOReturned.pagesFound());
+            assertNull(newsListDTOReturned.nextCursor());
+        }
+
+        @DisplayName("Should throw InvalidCursorException when the cursor sent cannot be decoded")
+        @Test
+        void getNewsByCursorTestInvalidCursorFailure(){
+            //Act / Assert
+            assertThrows(InvalidCursorException.class,
+                    () -> newsService.getNewsByCursor(NewsFilter.of(null,null,null),"not-a-cursor",2,true));
+
+            //Assert
+            verify(newsRepository,never()).findNewsAfter(any(),any(),any(),any(),any(),any(),anyBoolean(),any());
+            verify(newsRepository,never()).findFirstNews(any(),any(),any(),any(),anyBoolean(),any());
+        }
+    }
+
+    @Nested
+    class search{
+        @Test
+        @DisplayName("Should return the ranked search results with highlighted snippets and the pagination totals")
+        void searchTestSuccess(){
+            //Arrange
+            String query = "election results";
+            int page = 1;
+            int pageSize = 2;
+
+            UUID id = UUID.randomUUID();
+            Date publishedAt = Date.from(Instant.parse("2025-11-06T00:00:00Z"));
+            NewsSearchView view = new SpelAwareProxyProjectionFactory().createProjection(NewsSearchView.class, Map.of(
+                    "id", id,
+                    "title", "Election results",
+                    "highlightedTitle", "\u0002Election\u0003 \u0002results\u0003",
+                    "snippet", "The \u0002election\u0003 \u0002results\u0003 were published",
+                    "publishedAt", publishedAt,
+                    "writer", "WriterTest"
+            ));
+
+            when(newsRepository.searchNews(query,NewsService.MAX_SEARCH_CANDIDATES,pageSize,2L)).thenReturn(List.of(view));
+            when(newsRepository.countSearchNews(query,NewsService.MAX_SEARCH_CANDIDATES)).thenReturn(3L);
+
+            //Act
+            NewsSearchResponseListDTO responseReturned = newsService.search(query,page,pageSize);
+
+            //Assert
+            verify(newsRepository).searchNews(query,NewsService.MAX_SEARCH_CANDIDATES,pageSize,2L);
+            verify(newsRepository).countSearchNews(query,NewsService.MAX_SEARCH_CANDIDATES);
+
+            verifyNoMoreInteractions(newsRepository);
+
+            assertEquals(new NewsSearchResponseListDTO(
+                    "News returned successfully",
+                    3,
+                    2,
+                    List.of(new NewsSearchResponseDTO(id,"Election results","<mark>Election</mark> <mark>results</mark>","The <mark>election</mark> <mark>results</mark> were published",publishedAt,"WriterTest"))
+            ),responseReturned);
+        }
+
+        @Test
+        @DisplayName("Should HTML-escape the stored text around the highlighted terms")
+        void searchTestEscapesStoredHtmlSuccess(){
+            //Arrange
+            String query = "election";
+
+            NewsSearchView view = new SpelAwareProxyProjectionFactory().createProjection(NewsSearchView.class, Map.of(
+                    "id", UUID.randomUUID(),
+                    "title", "<script>alert(1)</script> election",
+                    "highlightedTitle", "<script>alert(1)</script> \u0002election\u0003",
+                    "snippet", "<img src=x onerror=\"alert(1)\"> <mark>not a match</mark> \u0002election\u0003",
+                    "publishedAt", Date.from(Instant.parse("2025-11-06T00:00:00Z")),
+                    "writer", "WriterTest"
+            ));
+
+            when(newsRepository.searchNews(query,NewsService.MAX_SEARCH_CANDIDATES,10,0L)).thenReturn(List.of(view));
+            when(newsRepository.countSearchNews(query,NewsService.MAX_SEARCH_CANDIDATES)).thenReturn(1L);
+
+            //Act
+            NewsSearchResponseListDTO responseReturned = newsService.search(query,0,10);
+
+            //Assert
+            NewsSearchResponseDTO newsReturned = responseReturned.news().get(0);
+            assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; <mark>election</mark>",newsReturned.highlightedTitle());
+            assertEquals("&lt;img src=x onerror=&quot;alert(1)&quot;&gt; &lt;mark&gt;not a match&lt;/mark&gt; <mark>election</mark>",newsReturned.snippet());
+            assertEquals("<script>alert(1)</script> election",newsReturned.title());
+        }
+
+        @Test
+        @DisplayName("Should cap the page size and clamp a negative page when searching")
+        void searchTestPageBoundsSuccess(){
+            //Arrange
+            String query = "election";
+
+            when(newsRepository.searchNews(query,NewsService.MAX_SEARCH_CANDIDATES,100,0L)).thenReturn(List.of());
+            when(newsRepository.countSearchNews(query,NewsService.MAX_SEARCH_CANDIDATES)).thenReturn(0L);
+
+            //Act
+            NewsSearchResponseListDTO responseReturned = newsService.search(query,-1,1000);
+
+            //Assert
+            verify(newsRepository).searchNews(query,NewsService.MAX_SEARCH_CANDIDATES,100,0L);
+            verify(newsRepository).countSearchNews(query,NewsService.MAX_SEARCH_CANDIDATES);
+
+            assertEquals(new NewsSearchResponseListDTO("News returned successfully",0,0,List.of()),responseReturned);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidSearchQueryException when the search query is blank")
+        void searchTestInvalidSearchQueryFailure(){
+            //Act / Assert
+            assertThrows(InvalidSearchQueryException.class,
+                    () -> newsService.search("  ",0,10));
+
+            //Assert
+            verifyNoInteractions(newsRepository);
+        }
+    }
+
     @Nested
     class getOne{
 
@@ -444,23 +944,22 @@ class NewsServiceTest {
             //Arrange
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
 
-            News newsExpected = NewsTestFactory.buildOne(newsId);
+            NewsRevision newsExpected = NewsRevision.from(NewsTestFactory.buildOne(newsId));
 
-            when(newsRepository.findById(newsId)).thenReturn(Optional.of(newsExpected));
+            when(newsCacheService.findById(newsId)).thenReturn(newsExpected);
 
             //Act
 
-            News newsReturned = newsService.getOne(newsId);
+            NewsRevision newsReturned = newsService.getOne(newsId);
 
             //Assert
 
-            verify(newsRepository).findById(newsId);
+            verify(newsCacheService).findById(newsId);
 
-            verifyNoMoreInteractions(newsRepository);
+            verifyNoMoreInteractions(newsCacheService);
+            verifyNoInteractions(newsRepository);
 
-            assertThat(newsReturned)
-                    .usingRecursiveComparison()
-                    .isEqualTo(newsExpected);
+            assertEquals(newsExpected,newsReturned);
         }
 
         @DisplayName("Should throw NewsNotFoundException when not finding a news")
@@ -469,7 +968,7 @@ class NewsServiceTest {
             //Arrange
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
 
-            when(newsRepository.findById(newsId)).thenReturn(Optional.empty());
+            when(newsCacheService.findById(newsId)).thenReturn(null);
 
             //Act / Assert
 
@@ -479,9 +978,9 @@ class NewsServiceTest {
 
             //Assert
 
-            verify(newsRepository).findById(newsId);
+            verify(newsCacheService).findById(newsId);
 
-            verifyNoMoreInteractions(newsRepository);
+            verifyNoMoreInteractions(newsCacheService);
 
             assertEquals("News Not Found", exception.getMessage());
         }
@@ -490,7 +989,7 @@ class NewsServiceTest {
     @Nested
     class update{
 
-        @DisplayName("Should update title and body fields when authorized and return the saved news")
+        @DisplayName("Should update title and body fields of the loaded news when authorized and return the saved news")
         @Test
         void updateTestSuccess(){
             //Arrange
@@ -498,35 +997,33 @@ class NewsServiceTest {
             User loggedWriter = UserTestFactory.buildOne();
             NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated","TitleTestUpdated");
 
+            Instant updatedAt = Instant.parse("2025-11-05T00:00:00Z");
+
             News oldNews = NewsTestFactory.buildOne(newsId,loggedWriter);
+            oldNews.setVersion(3L);
             News newsExpected = NewsTestFactory.buildOne(newsId,newsData,loggedWriter);
 
-            String tokenExpected = "123token123";
-
-            ArgumentCaptor<News> newsCaptor = ArgumentCaptor.forClass(News.class);
-
             when(newsRepository.findById(newsId)).thenReturn(Optional.of(oldNews));
-            when(tokenService.recoverToken()).thenReturn(tokenExpected);
-            when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(loggedWriter.getUsername());
-            when(newsRepository.save(any())).thenReturn(newsExpected);
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
+            when(clock.instant()).thenReturn(updatedAt);
+            when(newsRepository.saveAndFlush(oldNews)).thenReturn(newsExpected);
 
             //Act
 
-            News newsReturned = newsService.update(newsId,newsData);
+            News newsReturned = newsService.update(newsId,newsData,3L);
 
             //Assert
 
             verify(newsRepository).findById(newsId);
-            verify(tokenService).recoverToken();
-            verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-            verify(newsRepository).save(newsCaptor.capture());
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).saveAndFlush(oldNews);
+            verify(newsCacheService).put(NewsRevision.from(newsExpected));
 
-            verifyNoMoreInteractions(newsRepository,tokenService);
+            verifyNoMoreInteractions(newsRepository,authenticatedUserService,newsCacheService);
 
-            News newsCaptured = newsCaptor.getValue();
-            assertThat(newsCaptured)
-                    .extracting(News::getId,News::getTitle,News::getBody,News::getPublishedAt,News::getWriter)
-                    .containsExactly(newsId,newsData.title(),newsData.body(),oldNews.getPublishedAt(),oldNews.getWriter());
+            assertThat(oldNews)
+                    .extracting(News::getId,News::getTitle,News::getBody,News::getPublishedAt,News::getWriter,News::getVersion,News::getUpdatedAt)
+                    .containsExactly(newsId,newsData.title(),newsData.body(),oldNews.getPublishedAt(),oldNews.getWriter(),3L,Date.from(updatedAt));
 
             assertThat(newsReturned)
                     .usingRecursiveComparison()
@@ -544,37 +1041,57 @@ class NewsServiceTest {
 
             News oldNews = NewsTestFactory.buildOne(newsId,loggedWriter);
 
-            String tokenExpected = "123token123";
-
-            ArgumentCaptor<News> newsCaptor = ArgumentCaptor.forClass(News.class);
-
             when(newsRepository.findById(newsId)).thenReturn(Optional.of(oldNews));
-            when(tokenService.recoverToken()).thenReturn(tokenExpected);
-            when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(loggedWriter.getUsername());
-            when(newsRepository.save(any())).thenReturn(oldNews);
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
+            when(clock.instant()).thenReturn(Instant.parse("2025-11-05T00:00:00Z"));
+            when(newsRepository.saveAndFlush(oldNews)).thenReturn(oldNews);
 
             //Act
 
-            News newsReturned = newsService.update(newsId,newsData);
+            News newsReturned = newsService.update(newsId,newsData,null);
 
             //Assert
 
             verify(newsRepository).findById(newsId);
-            verify(tokenService).recoverToken();
-            verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-            verify(newsRepository).save(newsCaptor.capture());
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).saveAndFlush(oldNews);
 
-            verifyNoMoreInteractions(newsRepository,tokenService);
+            verifyNoMoreInteractions(newsRepository,authenticatedUserService);
 
-            News newsCaptured = newsCaptor.getValue();
-            assertThat(newsCaptured)
+            assertThat(oldNews)
                     .extracting(News::getId,News::getTitle,News::getBody,News::getPublishedAt,News::getWriter)
-                    .containsExactly(newsId,oldNews.getTitle(),oldNews.getBody(),oldNews.getPublishedAt(),oldNews.getWriter());
+                    .containsExactly(newsId,"TitleTest","BodyTest",Date.from(Instant.parse("2025-10-14T00:00:00Z")),loggedWriter);
 
             assertThat(newsReturned)
                     .usingRecursiveComparison()
                     .isEqualTo(oldNews);
         }
+
+        @DisplayName("Should throw a NewsVersionMismatchException without saving when the expected version is stale")
+        @Test
+        void updateTestVersionMismatchFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne();
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated","TitleTestUpdated");
+
+            News oldNews = NewsTestFactory.buildOne(newsId,loggedWriter);
+            oldNews.setVersion(4L);
+
+            when(newsRepository.findById(newsId)).thenReturn(Optional.of(oldNews));
+
+            //Act / Assert
+            assertThrows(NewsVersionMismatchException.class,
+                    () -> newsService.update(newsId,newsData,3L,loggedWriter));
+
+            //Assert
+            verify(newsRepository).findById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+            verifyNoInteractions(newsCacheService);
+
+            assertEquals("TitleTest",oldNews.getTitle());
+        }
     }
 
     @DisplayName("Should throws BelongsToAnotherWriterException when the logged in user is not the writer of the news with the provided id")
@@ -590,95 +1107,267 @@ class NewsServiceTest {
 
         News oldNews = NewsTestFactory.buildOne(newsId,newsWriter);
 
-        String tokenExpected = "123token123";
-
         when(newsRepository.findById(newsId)).thenReturn(Optional.of(oldNews));
-        when(tokenService.recoverToken()).thenReturn(tokenExpected);
-        when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(loggedWriter.getUsername());
+        when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
 
         //Act / Assert
         BelongsToAnotherWriterException exception =
                 assertThrows(BelongsToAnotherWriterException.class,() ->
-                newsService.update(newsId,newsData));
+                newsService.update(newsId,newsData,null));
 
         //Assert
         verify(newsRepository).findById(newsId);
-        verify(tokenService).recoverToken();
-        verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-        verify(newsRepository,never()).save(any());
+        verify(authenticatedUserService).getAuthenticatedUser();
+        verify(newsRepository,never()).saveAndFlush(any());
 
-        verifyNoMoreInteractions(newsRepository,tokenService);
+        verifyNoMoreInteractions(newsRepository,authenticatedUserService);
+        verifyNoInteractions(newsCacheService);
 
         assertEquals("You are not authorized to update this news because it belongs to another user.", exception.getMessage());
     }
 
     @Nested
-    class delete {
-        @DisplayName("Should delete the news and return it")
+    class patch{
         @Test
-        void deleteTestSuccess() {
+        @DisplayName("Should update only the sent fields in a single conditional update returning the row and cache the patched news")
+        void patchTestSuccess(){
             //Arrange
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
-            User loggedWriter = UserTestFactory.buildOne("UserTestOwner");
+            User loggedWriter = UserTestFactory.buildOne();
+            loggedWriter.setId(UUID.randomUUID());
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+            Instant updatedAt = Instant.parse("2025-11-05T00:00:00Z");
 
-            News newsExpected = NewsTestFactory.buildOne(newsId,loggedWriter);
+            NewsGetResponseDTO newsExpected = new NewsGetResponseDTO(newsId,"TitleTestUpdated","BodyTest",Date.from(Instant.parse("2025-10-14T00:00:00Z")),loggedWriter.getUsername());
 
-            String tokenExpected = "123token123";
+            PatchedNewsView patchedView = new SpelAwareProxyProjectionFactory().createProjection(PatchedNewsView.class, Map.of(
+                    "id", newsId,
+                    "title", "TitleTestUpdated",
+                    "body", "BodyTest",
+                    "publishedAt", newsExpected.publishedAt(),
+                    "version", 1L,
+                    "updatedAt", Date.from(updatedAt)
+            ));
 
-            when(newsRepository.findById(newsId)).thenReturn(Optional.of(newsExpected));
-            when(tokenService.recoverToken()).thenReturn(tokenExpected);
-            when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(loggedWriter.getUsername());
-            doNothing().when(newsRepository).delete(newsExpected);
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
+            when(clock.instant()).thenReturn(updatedAt);
+            when(newsRepository.patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),null)).thenReturn(Optional.of(patchedView));
 
             //Act
-            News newsReturned = newsService.delete(newsId);
+            NewsGetResponseDTO newsReturned = newsService.patch(newsId,newsData,null);
 
             //Assert
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),null);
+            verify(newsCacheService).put(new NewsRevision(newsExpected,1L,Date.from(updatedAt)));
+
+            verifyNoMoreInteractions(newsRepository,authenticatedUserService,newsCacheService);
 
+            assertEquals(newsExpected,newsReturned);
+        }
+
+        @Test
+        @DisplayName("Should throw a BelongsToAnotherWriterException when no row is updated but the news exists")
+        void patchTestBelongsToAnotherWriterExceptionFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne("AnotherWriter");
+            loggedWriter.setId(UUID.randomUUID());
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+            Instant updatedAt = Instant.parse("2025-11-05T00:00:00Z");
+
+            when(clock.instant()).thenReturn(updatedAt);
+            when(newsRepository.patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),null)).thenReturn(Optional.empty());
+            when(newsRepository.findById(newsId)).thenReturn(Optional.of(NewsTestFactory.buildOne(newsId,UserTestFactory.buildOne("UserTestOwner"))));
+
+            //Act / Assert
+            BelongsToAnotherWriterException exception = assertThrows(BelongsToAnotherWriterException.class,
+                    () -> newsService.patch(newsId,newsData,null,loggedWriter));
+
+            //Assert
+            verify(newsRepository).patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),null);
             verify(newsRepository).findById(newsId);
-            verify(tokenService).recoverToken();
-            verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-            verify(newsRepository).delete(newsExpected);
 
-            verifyNoMoreInteractions(newsRepository,tokenService);
+            verifyNoMoreInteractions(newsRepository);
+            verifyNoInteractions(newsCacheService);
 
-            assertThat(newsReturned)
-                    .usingRecursiveComparison()
-                    .isEqualTo(newsExpected);
+            assertEquals("You are not authorized to update this news because it belongs to another user.", exception.getMessage());
         }
 
-        @DisplayName("Should throws BelongsToAnotherWriterException when the logged in user is not the writer of the news with the provided id")
         @Test
-        void deleteTestBelongsToAnotherWriterFailure(){
+        @DisplayName("Should throw a NewsNotFoundException when no row is updated and the news does not exist")
+        void patchTestNewsNotFoundExceptionFailure(){
             //Arrange
             UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne();
+            loggedWriter.setId(UUID.randomUUID());
+            NewsRequestDTO newsData = new NewsRequestDTO(null,"BodyTestUpdated");
+            Instant updatedAt = Instant.parse("2025-11-05T00:00:00Z");
 
-            User loggedWriter = UserTestFactory.buildOne("UserTest");
-            User newsWriter = UserTestFactory.buildOne("UserTestOwner");
+            when(clock.instant()).thenReturn(updatedAt);
+            when(newsRepository.patchNewsReturning(newsId,loggedWriter.getId(),null,"BodyTestUpdated",Date.from(updatedAt),null)).thenReturn(Optional.empty());
+            when(newsRepository.findById(newsId)).thenReturn(Optional.empty());
+
+            //Act / Assert
+            assertThrows(NewsNotFoundException.class,
+                    () -> newsService.patch(newsId,newsData,null,loggedWriter));
+
+            //Assert
+            verify(newsRepository).patchNewsReturning(newsId,loggedWriter.getId(),null,"BodyTestUpdated",Date.from(updatedAt),null);
+            verify(newsRepository).findById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+            verifyNoInteractions(newsCacheService);
+        }
+
+        @Test
+        @DisplayName("Should throw a NewsVersionMismatchException when no row is updated but the writer owns the news")
+        void patchTestVersionMismatchFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne();
+            loggedWriter.setId(UUID.randomUUID());
+            NewsRequestDTO newsData = new NewsRequestDTO("TitleTestUpdated",null);
+            Instant updatedAt = Instant.parse("2025-11-05T00:00:00Z");
+
+            when(clock.instant()).thenReturn(updatedAt);
+            when(newsRepository.patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),3L)).thenReturn(Optional.empty());
+            when(newsRepository.findById(newsId)).thenReturn(Optional.of(NewsTestFactory.buildOne(newsId,loggedWriter)));
+
+            //Act / Assert
+            assertThrows(NewsVersionMismatchException.class,
+                    () -> newsService.patch(newsId,newsData,3L,loggedWriter));
+
+            //Assert
+            verify(newsRepository).patchNewsReturning(newsId,loggedWriter.getId(),"TitleTestUpdated",null,Date.from(updatedAt),3L);
+            verify(newsRepository).findById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+            verifyNoInteractions(newsCacheService);
+        }
+
+        @Test
+        @DisplayName("Should throw an InvalidNewsUpdateException without touching the database when no field is sent")
+        void patchTestEmptyDataFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne();
+
+            //Act / Assert
+            assertThrows(InvalidNewsUpdateException.class,
+                    () -> newsService.patch(newsId,new NewsRequestDTO(null,null),null,loggedWriter));
+
+            //Assert
+            verifyNoInteractions(newsRepository,newsCacheService);
+        }
 
-            News newsExpected = NewsTestFactory.buildOne(newsId,newsWriter);
+        @Test
+        @DisplayName("Should throw an InvalidNewsUpdateException without touching the database when a sent field is blank")
+        void patchTestBlankDataFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne();
+
+            //Act / Assert
+            InvalidNewsUpdateException titleException = assertThrows(InvalidNewsUpdateException.class,
+                    () -> newsService.patch(newsId,new NewsRequestDTO("  ",null),null,loggedWriter));
+            InvalidNewsUpdateException bodyException = assertThrows(InvalidNewsUpdateException.class,
+                    () -> newsService.patch(newsId,new NewsRequestDTO("TitleTestUpdated",""),null,loggedWriter));
+
+            //Assert
+            verifyNoInteractions(newsRepository,newsCacheService,clock);
+
+            assertEquals("The news title must not be blank",titleException.getMessage());
+            assertEquals("The news body must not be blank",bodyException.getMessage());
+        }
+    }
+
+    @Nested
+    class delete {
+        @DisplayName("Should delete the news in a single ownership-checked statement, evict it from the cache and return it")
+        @Test
+        void deleteTestSuccess() {
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            User loggedWriter = UserTestFactory.buildOne("UserTestOwner");
+            loggedWriter.setId(UUID.randomUUID());
+
+            Date publishedAt = Date.from(Instant.parse("2025-10-14T00:00:00Z"));
+            DeletedNewsView deletedView = new SpelAwareProxyProjectionFactory().createProjection(DeletedNewsView.class, Map.of(
+                    "id", newsId,
+                    "title", "TitleTest",
+                    "body", "BodyTest",
+                    "publishedAt", publishedAt
+            ));
+
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
+            when(newsRepository.deleteNewsReturning(newsId,loggedWriter.getId(),null)).thenReturn(Optional.of(deletedView));
+
+            //Act
+            NewsGetResponseDTO newsReturned = newsService.delete(newsId,null);
+
+            //Assert
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).deleteNewsReturning(newsId,loggedWriter.getId(),null);
+            verify(newsCacheService).evict(newsId);
 
-            String tokenExpected = "123token123";
+            verifyNoMoreInteractions(newsRepository,authenticatedUserService,newsCacheService);
 
-            when(newsRepository.findById(newsId)).thenReturn(Optional.of(newsExpected));
-            when(tokenService.recoverToken()).thenReturn(tokenExpected);
-            when(tokenService.validateTokenAndGetUsername(tokenExpected)).thenReturn(loggedWriter.getUsername());
+            assertEquals(new NewsGetResponseDTO(newsId,"TitleTest","BodyTest",publishedAt,"UserTestOwner"),newsReturned);
+        }
+
+        @DisplayName("Should throws BelongsToAnotherWriterException when nothing is deleted but the news exists")
+        @Test
+        void deleteTestBelongsToAnotherWriterFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            User loggedWriter = UserTestFactory.buildOne("UserTest");
+            loggedWriter.setId(UUID.randomUUID());
+
+            when(authenticatedUserService.getAuthenticatedUser()).thenReturn(loggedWriter);
+            when(newsRepository.deleteNewsReturning(newsId,loggedWriter.getId(),null)).thenReturn(Optional.empty());
+            when(newsRepository.findById(newsId)).thenReturn(Optional.of(NewsTestFactory.buildOne(newsId,UserTestFactory.buildOne("UserTestOwner"))));
 
             //Act / Assert
             BelongsToAnotherWriterException exception =
                     assertThrows(BelongsToAnotherWriterException.class,() ->
-                            newsService.delete(newsId));
+                            newsService.delete(newsId,null));
 
             //Assert
+            verify(authenticatedUserService).getAuthenticatedUser();
+            verify(newsRepository).deleteNewsReturning(newsId,loggedWriter.getId(),null);
             verify(newsRepository).findById(newsId);
-            verify(tokenService).recoverToken();
-            verify(tokenService).validateTokenAndGetUsername(tokenExpected);
-            verify(newsRepository,never()).delete(newsExpected);
 
-            verifyNoMoreInteractions(newsRepository,tokenService);
+            verifyNoMoreInteractions(newsRepository,authenticatedUserService);
+            verifyNoInteractions(newsCacheService);
 
             assertEquals("You are not authorized to delete this news because it belongs to another user.", exception.getMessage());
         }
+
+        @DisplayName("Should throws NewsNotFoundException when nothing is deleted and the news does not exist")
+        @Test
+        void deleteTestNewsNotFoundFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            User loggedWriter = UserTestFactory.buildOne("UserTest");
+            loggedWriter.setId(UUID.randomUUID());
+
+            when(newsRepository.deleteNewsReturning(newsId,loggedWriter.getId(),null)).thenReturn(Optional.empty());
+            when(newsRepository.findById(newsId)).thenReturn(Optional.empty());
+
+            //Act / Assert
+            assertThrows(NewsNotFoundException.class,() ->
+                    newsService.delete(newsId,null,loggedWriter));
+
+            //Assert
+            verify(newsRepository).deleteNewsReturning(newsId,loggedWriter.getId(),null);
+            verify(newsRepository).findById(newsId);
+
+            verifyNoMoreInteractions(newsRepository);
+            verifyNoInteractions(newsCacheService);
+        }
     }
 }
 
@@ -0,0 +1,152 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.news.NewsFeedVersionView;
+import com.example.NewsAPI.domain.news.NewsRevision;
+import com.example.NewsAPI.domain.news.NewsVersion;
+import com.example.NewsAPI.domain.repositories.NewsFeedVersionRepository;
+import com.example.NewsAPI.exception.NewsVersionMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsVersionServiceTest {
+
+    @InjectMocks
+    NewsVersionService newsVersionService;
+
+    @Mock
+    NewsFeedVersionRepository newsFeedVersionRepository;
+
+    @Nested
+    class getFeedVersion{
+        @Test
+        @DisplayName("Should build the feed ETag from the summed change counter shards and use the latest shard timestamp as last modified")
+        void getFeedVersionTestSuccess(){
+            //Arrange
+            Instant updatedAt = Instant.parse("2025-11-06T10:00:00Z");
+            NewsFeedVersionView feed = new SpelAwareProxyProjectionFactory().createProjection(NewsFeedVersionView.class, Map.of(
+                    "version", 42L,
+                    "updatedAt", updatedAt
+            ));
+
+            when(newsFeedVersionRepository.findFeedVersion()).thenReturn(feed);
+
+            //Act
+            Optional<NewsVersion> versionReturned = newsVersionService.getFeedVersion();
+
+            //Assert
+            verify(newsFeedVersionRepository).findFeedVersion();
+
+            verifyNoMoreInteractions(newsFeedVersionRepository);
+
+            assertEquals(Optional.of(new NewsVersion("W/\"feed-42\"",updatedAt)),versionReturned);
+        }
+
+        @Test
+        @DisplayName("Should return empty when the feed change counter has no shards")
+        void getFeedVersionTestEmptySuccess(){
+            //Arrange
+            NewsFeedVersionView feed = new SpelAwareProxyProjectionFactory().createProjection(NewsFeedVersionView.class, new HashMap<>());
+
+            when(newsFeedVersionRepository.findFeedVersion()).thenReturn(feed);
+
+            //Act
+            Optional<NewsVersion> versionReturned = newsVersionService.getFeedVersion();
+
+            //Assert
+            assertTrue(versionReturned.isEmpty());
+        }
+    }
+
+    @Nested
+    class getNewsVersion{
+        @Test
+        @DisplayName("Should build the article ETag from its id and optimistic lock version without querying the database")
+        void getNewsVersionTestSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+            Date updatedAt = Date.from(Instant.parse("2025-11-06T10:00:00Z"));
+            NewsRevision revision = new NewsRevision(newsId,"TitleTest","BodyTest",updatedAt,"WriterTest",7L,updatedAt);
+
+            //Act
+            NewsVersion versionReturned = newsVersionService.getNewsVersion(revision);
+
+            //Assert
+            verifyNoInteractions(newsFeedVersionRepository);
+
+            assertEquals(new NewsVersion("W/\"9a3acd51-2143-4a33-81a5-6ea065285379-7\"",updatedAt.toInstant()),versionReturned);
+        }
+    }
+
+    @Nested
+    class expectedVersion{
+        @Test
+        @DisplayName("Should extract the version from an If-Match header holding the article ETag")
+        void expectedVersionTestSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            //Act
+            Optional<Long> versionReturned = newsVersionService.expectedVersion(newsId,"\"9a3acd51-2143-4a33-81a5-6ea065285379-7\"");
+
+            //Assert
+            assertEquals(Optional.of(7L),versionReturned);
+            verifyNoInteractions(newsFeedVersionRepository);
+        }
+
+        @Test
+        @DisplayName("Should extract the version from an If-Match header holding the weak article ETag sent by the server")
+        void expectedVersionTestWeakSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            //Act
+            Optional<Long> versionReturned = newsVersionService.expectedVersion(newsId,"W/\"9a3acd51-2143-4a33-81a5-6ea065285379-7\"");
+
+            //Assert
+            assertEquals(Optional.of(7L),versionReturned);
+        }
+
+        @Test
+        @DisplayName("Should not require any version when If-Match is absent or a wildcard")
+        void expectedVersionTestAbsentSuccess(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            //Act / Assert
+            assertTrue(newsVersionService.expectedVersion(newsId,null).isEmpty());
+            assertTrue(newsVersionService.expectedVersion(newsId,"*").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should throw a NewsVersionMismatchException when If-Match holds a foreign or malformed ETag")
+        void expectedVersionTestMismatchFailure(){
+            //Arrange
+            UUID newsId = UUID.fromString("9a3acd51-2143-4a33-81a5-6ea065285379");
+
+            //Act / Assert
+            assertThrows(NewsVersionMismatchException.class,
+                    () -> newsVersionService.expectedVersion(newsId,"\"" + UUID.randomUUID() + "-7\""));
+            assertThrows(NewsVersionMismatchException.class,
+                    () -> newsVersionService.expectedVersion(newsId,"\"9a3acd51-2143-4a33-81a5-6ea065285379-abc\""));
+            assertThrows(NewsVersionMismatchException.class,
+                    () -> newsVersionService.expectedVersion(newsId,"W/\"feed-7\""));
+        }
+    }
+}
@@ -6,8 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.*;
 import java.util.Date;
 
@@ -44,20 +42,36 @@ class TemporalServiceTest {
 
         }
 
-        @DisplayName("Should return 01/01/0001 in date format when publication date is null")
+        @DisplayName("Should return null when publication date is null so no lower bound is applied")
         @Test
-        void definesStartDateTestPublicationDateNullSuccess() throws ParseException {
-            //Arrange
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date expectedDate = simpleDateFormat.parse("01/01/0001");
+        void definesStartDateTestPublicationDateNullSuccess(){
+            //Act
+            Date returnedDate = temporalService.definesStartDate(null);
 
+            //Assert
+            assertNull(returnedDate);
+
+        }
+
+        @DisplayName("Should accept the day and month without leading zeros")
+        @Test
+        void definesStartDateTestSingleDigitSuccess(){
+            //Arrange
+            ZonedDateTime zonedExpectedDate = LocalDate.of(2025, 1, 5).atStartOfDay(ZoneId.systemDefault());
+            Date expectedDate = Date.from(zonedExpectedDate.toInstant());
 
             //Act
-            Date returnedDate = temporalService.definesStartDate(null);
+            Date returnedDate = temporalService.definesStartDate("5/1/2025");
 
             //Assert
             assertEquals(expectedDate,returnedDate);
+        }
 
+        @DisplayName("Should throw DateConvertException when the date sent does not exist in the calendar")
+        @Test
+        void definesStartDateTestNonExistentDateFailure(){
+            //Act / Assert
+            assertThrows(DateConvertException.class,() -> temporalService.definesStartDate("31/02/2025"));
         }
 
         @DisplayName("Should throw DateConvertException when the date sent is in an unexpected format")
@@ -94,17 +108,14 @@ class TemporalServiceTest {
 
         }
 
-        @DisplayName("Should return 31/12/9999 in date format when publication date is null")
+        @DisplayName("Should return null when publication date is null so no upper bound is applied")
         @Test
         void definesEndDateTestPublicationDateNullSuccess(){
-            ZonedDateTime zonedDateTime = LocalDate.of(9999, 12, 31).atStartOfDay(ZoneId.systemDefault());
-            Date expectedDate = Date.from(zonedDateTime.toInstant());
-
             //Act
             Date returnedDate = temporalService.definesEndDate(null,null);
 
             //Assert
-            assertEquals(expectedDate,returnedDate);
+            assertNull(returnedDate);
         }
 
         @DisplayName("Should throw RuntimeException when the start date sent is null")
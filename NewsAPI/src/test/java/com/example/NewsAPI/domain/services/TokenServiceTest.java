@@ -9,11 +9,14 @@ import com.example.NewsAPI.domain.user.User;
 import com.example.NewsAPI.exception.RetrievingHttpTokenException;
 import com.example.NewsAPI.exception.TokenGenerationException;
 import com.example.NewsAPI.factory.UserTestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -36,6 +39,9 @@ class TokenServiceTest {
     @Mock
     TemporalService temporalService;
 
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @AfterEach
     void afterEach(){
         RequestContextHolder.resetRequestAttributes();
@@ -50,6 +56,7 @@ class TokenServiceTest {
             User user = UserTestFactory.buildOne("TestUser");
             String secret = "TestSecret";
             ReflectionTestUtils.setField(tokenService, "secret", secret);
+            tokenService.init();
 
             int hours = 5;
             Instant expectedExpiration = Instant.now().plus(hours,ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
@@ -102,6 +109,7 @@ class TokenServiceTest {
             User user = UserTestFactory.buildOne("TestUser");
             String secret = "TestSecret";
             ReflectionTestUtils.setField(tokenService, "secret", secret);
+            tokenService.init();
 
 
 
@@ -119,6 +127,35 @@ class TokenServiceTest {
             verifyNoMoreInteractions(temporalService);
 
             assertEquals(user.getUsername(),returnedUsername);
+            assertEquals(1,meterRegistry.get("auth.step").tag("step","token.verify").timer().count());
+        }
+
+        @DisplayName("Should serve a repeated token from the verified token cache without verifying it again")
+        @Test
+        void validateTokenAndGetUsernameTestCachedTokenSuccess(){
+            //Arrange
+            User user = UserTestFactory.buildOne("TestUser");
+            String secret = "TestSecret";
+            ReflectionTestUtils.setField(tokenService, "secret", secret);
+            tokenService.init();
+
+            int hours = 5;
+            Instant expectedExpiration = Instant.now().plus(hours,ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+            when(temporalService.plusHoursFromNow(hours)).thenReturn(expectedExpiration);
+
+            String validToken = tokenService.generateToken(user);
+            tokenService.validateTokenAndGetUsername(validToken);
+
+            JWTVerifier verifierForAnotherSecret = JWT.require(Algorithm.HMAC256("AnotherSecret"))
+                    .withIssuer("news-api")
+                    .build();
+            ReflectionTestUtils.setField(tokenService, "verifier", verifierForAnotherSecret);
+
+            //Act
+            String returnedUsername = tokenService.validateTokenAndGetUsername(validToken);
+
+            //Assert
+            assertEquals(user.getUsername(),returnedUsername);
         }
 
         @DisplayName("Should return empty string when a valid token is sent")
@@ -127,6 +164,7 @@ class TokenServiceTest {
             //Arrange
             String secret = "TestSecret";
             ReflectionTestUtils.setField(tokenService, "secret", secret);
+            tokenService.init();
 
             String invalidToken = "INVALID_TOKEN";
 
@@ -144,6 +182,7 @@ class TokenServiceTest {
             User user = UserTestFactory.buildOne("TestUser");
             String secret = "TestSecret";
             ReflectionTestUtils.setField(tokenService, "secret", secret);
+            tokenService.init();
 
             Instant expiredTime = Instant.now().minusSeconds(3600).truncatedTo(ChronoUnit.SECONDS);
 
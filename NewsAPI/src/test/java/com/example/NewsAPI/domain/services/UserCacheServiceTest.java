@@ -0,0 +1,110 @@
+package com.example.NewsAPI.domain.services;
+
+import com.example.NewsAPI.domain.repositories.UserRepository;
+import com.example.NewsAPI.domain.user.User;
+import com.example.NewsAPI.factory.UserTestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheServiceTest {
+
+    @InjectMocks
+    UserCacheService userCacheService;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void beforeEach(){
+        ReflectionTestUtils.setField(userCacheService, "maxSize", 100L);
+        ReflectionTestUtils.setField(userCacheService, "ttl", Duration.ofMinutes(5));
+        userCacheService.init();
+    }
+
+    @Nested
+    class findByUsername{
+        @Test
+        @DisplayName("Should query the repository only once and serve the following lookups from the cache")
+        void findByUsernameTestCacheHitSuccess(){
+            //Arrange
+            User user = UserTestFactory.buildOne("UserTest");
+
+            when(userRepository.findByUsername(user.getUsername())).thenReturn(user);
+
+            //Act
+            UserDetails firstReturned = userCacheService.findByUsername(user.getUsername());
+            UserDetails secondReturned = userCacheService.findByUsername(user.getUsername());
+
+            //Assert
+            verify(userRepository).findByUsername(user.getUsername());
+
+            verifyNoMoreInteractions(userRepository);
+
+            assertSame(user,firstReturned);
+            assertSame(user,secondReturned);
+            assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache","principals","result","hit").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache","principals","result","miss").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should not cache unknown usernames")
+        void findByUsernameTestUnknownUserNotCachedSuccess(){
+            //Arrange
+            String username = "Unknown";
+
+            when(userRepository.findByUsername(username)).thenReturn(null);
+
+            //Act
+            UserDetails firstReturned = userCacheService.findByUsername(username);
+            UserDetails secondReturned = userCacheService.findByUsername(username);
+
+            //Assert
+            verify(userRepository,times(2)).findByUsername(username);
+
+            assertNull(firstReturned);
+            assertNull(secondReturned);
+        }
+    }
+
+    @Nested
+    class evict{
+        @Test
+        @DisplayName("Should reload the user from the repository after it is evicted")
+        void evictTestReloadSuccess(){
+            //Arrange
+            User user = UserTestFactory.buildOne("UserTest");
+
+            when(userRepository.findByUsername(user.getUsername())).thenReturn(user);
+
+            //Act
+            userCacheService.findByUsername(user.getUsername());
+            userCacheService.evict(user.getUsername());
+            userCacheService.findByUsername(user.getUsername());
+
+            //Assert
+            verify(userRepository,times(2)).findByUsername(user.getUsername());
+
+            verifyNoMoreInteractions(userRepository);
+        }
+    }
+}
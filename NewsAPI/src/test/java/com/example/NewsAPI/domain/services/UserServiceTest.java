@@ -5,6 +5,7 @@ import com.example.NewsAPI.domain.user.*;
 import com.example.NewsAPI.exception.IncorrectLoginCredentialsException;
 import com.example.NewsAPI.exception.UserAlreadyRegisteredException;
 import com.example.NewsAPI.factory.UserTestFactory;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,11 +14,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,7 +44,10 @@ class UserServiceTest {
     TokenService tokenService;
 
     @Mock
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    UserCacheService userCacheService;
 
     @Nested
     class create {
@@ -58,17 +65,18 @@ class UserServiceTest {
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
             when(userRepository.findByUsername(username)).thenReturn(null);
-            when(bCryptPasswordEncoder.encode(password)).thenReturn(encryptedPassword);
+            when(passwordEncoder.encode(password)).thenReturn(encryptedPassword);
             //Act
 
             userService.create(userData);
 
             //Assert
             verify(userRepository).findByUsername(username);
-            verify(bCryptPasswordEncoder).encode(password);
+            verify(passwordEncoder).encode(password);
             verify(userRepository).save(userCaptor.capture());
+            verify(userCacheService).evict(username);
 
-            verifyNoMoreInteractions(userRepository,bCryptPasswordEncoder);
+            verifyNoMoreInteractions(userRepository,passwordEncoder,userCacheService);
 
             assertThat(userCaptor.getValue())
                     .extracting(User::getUsername,User::getPassword,User::getRole)
@@ -95,10 +103,64 @@ class UserServiceTest {
 
             //Assert
             verify(userRepository).findByUsername(username);
-            verify(bCryptPasswordEncoder,never()).encode(password);
+            verify(passwordEncoder,never()).encode(password);
             verify(userRepository,never()).save(any());
 
-            verifyNoMoreInteractions(userRepository,bCryptPasswordEncoder);
+            verifyNoMoreInteractions(userRepository,passwordEncoder);
+        }
+
+        @Test
+        @DisplayName("should return UserAlreadyRegisteredException when the username unique index rejects a concurrent registration")
+        public void registerTestUniqueIndexViolationFailure(){
+            //Arrange
+            String username = "UserTest";
+            String password = "123";
+            String encryptedPassword = "encrypted_123";
+
+            RegisterRequestDTO userData = new RegisterRequestDTO(username,password,UserRole.WRITER);
+
+            when(userRepository.findByUsername(username)).thenReturn(null);
+            when(passwordEncoder.encode(password)).thenReturn(encryptedPassword);
+            when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("duplicate key",new SQLException("duplicate key","23505"),"PUBLIC.UX_USERS_USERNAME_INDEX_4")));
+
+            //Act / Assert
+
+            assertThrows(UserAlreadyRegisteredException.class,
+                    () -> userService.create(userData));
+
+            //Assert
+            verify(userRepository).findByUsername(username);
+            verify(passwordEncoder).encode(password);
+            verify(userRepository).save(any(User.class));
+            verify(userCacheService,never()).evict(username);
+
+            verifyNoMoreInteractions(userRepository,passwordEncoder,userCacheService);
+        }
+
+        @Test
+        @DisplayName("should rethrow the DataIntegrityViolationException when another constraint rejects the user")
+        public void registerTestOtherConstraintViolationFailure(){
+            //Arrange
+            String username = "UserTest";
+            String password = "123";
+            String encryptedPassword = "encrypted_123";
+
+            RegisterRequestDTO userData = new RegisterRequestDTO(username,password,UserRole.WRITER);
+            DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("value too long",new SQLException("value too long","22001"),null));
+
+            when(userRepository.findByUsername(username)).thenReturn(null);
+            when(passwordEncoder.encode(password)).thenReturn(encryptedPassword);
+            when(userRepository.save(any(User.class))).thenThrow(violation);
+
+            //Act
+            DataIntegrityViolationException exceptionThrown = assertThrows(DataIntegrityViolationException.class,
+                    () -> userService.create(userData));
+
+            //Assert
+            assertThat(exceptionThrown).isSameAs(violation);
+            verify(userCacheService,never()).evict(username);
         }
     }
 